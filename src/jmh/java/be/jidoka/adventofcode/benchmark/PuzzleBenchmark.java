@@ -0,0 +1,117 @@
+package be.jidoka.adventofcode.benchmark;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PuzzleBenchmark {
+
+    @Benchmark
+    public Object solvePartOne(ParsedPartOnePuzzle puzzle) {
+        return puzzle.get().solvePartOne();
+    }
+
+    @Benchmark
+    public Object solvePartTwo(ParsedPartTwoPuzzle puzzle) {
+        return puzzle.get().solvePartTwo();
+    }
+
+    @Benchmark
+    public Object parseAndSolvePartOne(UnparsedPuzzle puzzle) {
+        return puzzle.get().solvePartOne();
+    }
+
+    @Benchmark
+    public Object parseAndSolvePartTwo(UnparsedPuzzle puzzle) {
+        return puzzle.get().solvePartTwo();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ParsedPartOnePuzzle {
+
+        @Param({"PuzzleDayThree", "PuzzleDayFour", "PuzzleDayFive", "PuzzleDaySix", "PuzzleDayTen", "PuzzleDayEleven"})
+        private String puzzleName;
+
+        private Puzzle<?> puzzle;
+
+        @Setup(Level.Trial)
+        public void parse() {
+            puzzle = create(puzzleName);
+            puzzle.solvePartOne();
+        }
+
+        public Puzzle<?> get() {
+            return puzzle;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ParsedPartTwoPuzzle {
+
+        @Param({"PuzzleDayOne", "PuzzleDayTwo", "PuzzleDayThree", "PuzzleDayFour", "PuzzleDayFive", "PuzzleDaySix", "PuzzleDayTen", "PuzzleDayEleven"})
+        private String puzzleName;
+
+        private Puzzle<?> puzzle;
+
+        @Setup(Level.Trial)
+        public void parse() {
+            puzzle = create(puzzleName);
+            puzzle.solvePartTwo();
+        }
+
+        public Puzzle<?> get() {
+            return puzzle;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnparsedPuzzle {
+
+        @Param({"PuzzleDayOne", "PuzzleDayTwo", "PuzzleDayThree", "PuzzleDayFour", "PuzzleDayFive", "PuzzleDaySix", "PuzzleDayTen", "PuzzleDayEleven"})
+        private String puzzleName;
+
+        private Puzzle<?> puzzle;
+
+        @Setup(Level.Trial)
+        public void create() {
+            puzzle = PuzzleBenchmark.create(puzzleName);
+        }
+
+        @Setup(Level.Invocation)
+        public void forgetParsedInput() {
+            PuzzleWithInputFile.clearParsedInputs();
+        }
+
+        public Puzzle<?> get() {
+            return puzzle;
+        }
+    }
+
+    private static Puzzle<?> create(String puzzleName) {
+        try {
+            return (Puzzle<?>) Class.forName("be.jidoka.adventofcode.puzzle.day." + puzzleName)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot create puzzle <" + puzzleName + ">!", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package be.jidoka.adventofcode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+class Arguments {
+    private static final Set<String> FLAGS = Set.of("--no-answer-cache");
+
+    private final List<String> positionals;
+    private final Map<String, String> options;
+
+    Arguments(String[] args) {
+        this.positionals = new ArrayList<>();
+        this.options = new HashMap<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                positionals.add(args[i]);
+            } else if (FLAGS.contains(args[i])) {
+                options.put(args[i], "true");
+            } else if (i + 1 < args.length) {
+                options.put(args[i], args[++i]);
+            } else {
+                throw new IllegalArgumentException("Expected a value for option <" + args[i] + ">!");
+            }
+        }
+    }
+
+    String positional(int index) {
+        if (index >= positionals.size()) {
+            throw new IllegalArgumentException("Expected at least <" + (index + 1) + "> arguments!");
+        }
+        return positionals.get(index);
+    }
+
+    List<String> positionalsFrom(int index) {
+        return positionals.subList(Math.min(index, positionals.size()), positionals.size());
+    }
+
+    Optional<String> option(String name) {
+        return Optional.ofNullable(options.get(name));
+    }
+
+    boolean flag(String name) {
+        return options.containsKey(name);
+    }
+}
@@ -0,0 +1,61 @@
+package be.jidoka.adventofcode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class ClassDataSharingArchive {
+
+    private ClassDataSharingArchive() {
+    }
+
+    static void create(Path archive, List<String> trainingRun) {
+        String classPath = System.getProperty("java.class.path");
+        if (Arrays.stream(classPath.split(File.pathSeparator)).map(Paths::get).anyMatch(Files::isDirectory)) {
+            throw new IllegalStateException("Cannot create class data sharing archive, run the application from a jar instead of a class directory!");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        command.add("-XX:ArchiveClassesAtExit=" + archive);
+        command.add("-cp");
+        command.add(classPath);
+        command.add(Main.class.getName());
+        command.addAll(trainingRun);
+
+        int exitCode = run(command);
+        if (exitCode != 0) {
+            throw new IllegalStateException("Cannot create class data sharing archive, training run exited with <" + exitCode + ">!");
+        }
+
+        System.err.println("Created class data sharing archive " + archive + ", use it with:");
+        System.err.println("java -XX:SharedArchiveFile=" + archive + " -cp " + classPath + " " + Main.class.getName() + " <day>");
+    }
+
+    private static String javaExecutable() {
+        return ProcessHandle.current()
+                .info()
+                .command()
+                .orElse(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    }
+
+    private static int run(List<String> command) {
+        try {
+            return new ProcessBuilder(command)
+                    .inheritIO()
+                    .start()
+                    .waitFor();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start training run!", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during training run!", e);
+        }
+    }
+}
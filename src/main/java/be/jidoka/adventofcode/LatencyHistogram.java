@@ -0,0 +1,61 @@
+package be.jidoka.adventofcode;
+
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << (SUB_BUCKET_BITS - 1);
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long maximum;
+
+    void record(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Cannot record a negative latency <" + nanos + ">!");
+        }
+
+        counts[indexOf(nanos)]++;
+        totalCount++;
+        maximum = Math.max(maximum, nanos);
+    }
+
+    long getTotalCount() {
+        return totalCount;
+    }
+
+    long getMaximum() {
+        return maximum;
+    }
+
+    long percentile(double percentile) {
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+
+        long cumulative = 0;
+        for (int index = 0; index < counts.length; index++) {
+            cumulative += counts[index];
+            if (cumulative >= target) {
+                return Math.min(highestEquivalentValue(index), maximum);
+            }
+        }
+        return maximum;
+    }
+
+    private static int indexOf(long nanos) {
+        if (nanos < 2 * SUB_BUCKET_HALF_COUNT) {
+            return (int) nanos;
+        }
+
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (nanos >>> shift);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < 2 * SUB_BUCKET_HALF_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -1,46 +1,139 @@
 package be.jidoka.adventofcode;
 
+import be.jidoka.adventofcode.generator.InputGenerators;
+import be.jidoka.adventofcode.puzzle.IncrementalPuzzle;
 import be.jidoka.adventofcode.puzzle.Puzzle;
-import be.jidoka.adventofcode.puzzle.day.PuzzleDayEleven;
-import be.jidoka.adventofcode.puzzle.day.PuzzleDayFive;
-import be.jidoka.adventofcode.puzzle.day.PuzzleDayFour;
-import be.jidoka.adventofcode.puzzle.day.PuzzleDayOne;
-import be.jidoka.adventofcode.puzzle.day.PuzzleDaySix;
-import be.jidoka.adventofcode.puzzle.day.PuzzleDayTen;
-import be.jidoka.adventofcode.puzzle.day.PuzzleDayThree;
-import be.jidoka.adventofcode.puzzle.day.PuzzleDayTwo;
-
-import java.util.Map;
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+import be.jidoka.adventofcode.puzzle.SolveCancelledException;
+import be.jidoka.adventofcode.puzzle.answer.AnswerStore;
+import be.jidoka.adventofcode.puzzle.metrics.PuzzleMetrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
 
 public class Main {
-    private static final Map<Integer, Puzzle> PUZZLES;
+    private static final int DEFAULT_PORT = 2018;
+    private static final int MAXIMUM_STORED_ANSWERS = 1024;
+    private static final List<String> DEFAULT_TRAINING_RUN = List.of("all");
+    private static final long DEFAULT_SEED = 2018;
 
     public static void main(String[] args) {
-        Integer day = Integer.valueOf(args[0]);
+        Arguments arguments = new Arguments(args);
+        PuzzleLoader puzzles = new PuzzleLoader(answerStore(arguments), arguments.option("--timeout").map(Long::valueOf).map(Duration::ofSeconds));
+
+        String command = arguments.positional(0);
+        if ("all".equals(command)) {
+            new PuzzleSuite(puzzles.loadAll()).solveAll();
+        } else if ("serve".equals(command)) {
+            serve(puzzles, arguments.option("--socket").map(Paths::get), arguments.option("--port").map(Integer::valueOf).orElse(DEFAULT_PORT));
+        } else if ("batch".equals(command)) {
+            solveBatch(puzzles, Integer.valueOf(arguments.positional(1)), Paths.get(arguments.positional(2)), arguments.option("--output").map(Paths::get));
+        } else if ("stdin".equals(command)) {
+            solveIncrementally(Integer.valueOf(arguments.positional(1)), arguments.option("--every").map(Integer::valueOf).orElse(0));
+        } else if ("generate".equals(command)) {
+            InputGenerators.generate(Integer.valueOf(arguments.positional(1)), Integer.valueOf(arguments.positional(2)), seed(arguments), Paths.get(arguments.positional(3)));
+        } else if ("scale".equals(command)) {
+            scale(Integer.valueOf(arguments.positional(1)), arguments.positionalsFrom(2), seed(arguments), arguments.option("--directory").map(Paths::get));
+        } else if ("cds".equals(command)) {
+            List<String> trainingRun = arguments.positionalsFrom(2);
+            ClassDataSharingArchive.create(Paths.get(arguments.positional(1)), trainingRun.isEmpty() ? DEFAULT_TRAINING_RUN : trainingRun);
+        } else if (arguments.option("--bench").isPresent()) {
+            int measuredRuns = Integer.parseInt(arguments.option("--bench").get());
+            bench(Integer.valueOf(command), arguments.option("--warm-up").map(Integer::valueOf).orElse(measuredRuns), measuredRuns);
+        } else {
+            solve(puzzles, Integer.valueOf(command));
+        }
+
+        arguments.option("--metrics").map(Paths::get).ifPresent(PuzzleMetrics::writePrometheus);
+    }
+
+    private static Optional<AnswerStore> answerStore(Arguments arguments) {
+        if (arguments.flag("--no-answer-cache")) {
+            return Optional.empty();
+        }
 
+        Path directory = arguments.option("--answer-cache")
+                .map(Paths::get)
+                .orElse(Paths.get(System.getProperty("user.home"), ".cache", "adventofcode2018", "answers"));
+        return Optional.of(new AnswerStore(directory, MAXIMUM_STORED_ANSWERS));
+    }
+
+    private static void solve(PuzzleLoader puzzles, Integer day) {
         System.out.println("Advent of Code --- Day " + day);
 
-        Puzzle puzzle = loadPuzzle(day);
-        System.out.println("Your puzzle answer for Part One is " + puzzle.solvePartOne());
-        System.out.println("Your puzzle answer for Part Two is " + puzzle.solvePartTwo());
+        Puzzle<?> puzzle = puzzles.load(day);
+        printAnswer("Part One", puzzle::solvePartOne);
+        printAnswer("Part Two", puzzle::solvePartTwo);
+    }
+
+    private static void printAnswer(String part, Supplier<Object> solve) {
+        try {
+            System.out.println("Your puzzle answer for " + part + " is " + solve.get());
+        } catch (SolveCancelledException e) {
+            System.out.println("Your puzzle answer for " + part + " is cancelled: " + e.getMessage());
+        }
+    }
+
+    private static void bench(Integer day, int warmUpRuns, int measuredRuns) {
+        System.out.println("Advent of Code --- Day " + day);
+
+        new PuzzleBench(PuzzleRegistry.find(day).create(), warmUpRuns, measuredRuns).run();
+    }
+
+    private static void solveBatch(PuzzleLoader puzzles, Integer day, Path directory, Optional<Path> output) {
+        try (PrintStream results = output.map(Main::createResultsFile).orElse(System.out)) {
+            new PuzzleBatch(inputFile -> puzzles.load(day, inputFile), results).solveAll(directory);
+        }
+    }
+
+    private static void solveIncrementally(Integer day, int reportEvery) {
+        Puzzle<?> puzzle = PuzzleRegistry.find(day).create();
+        if (!(puzzle instanceof IncrementalPuzzle)) {
+            throw new IllegalArgumentException("Cannot solve puzzle for day <" + day + "> of advent incrementally!");
+        }
+
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in, UTF_8));
+        new PuzzlePipeline(((IncrementalPuzzle<?>) puzzle).solveIncrementally(), reportEvery).solve(input);
+    }
+
+    private static void scale(Integer day, List<String> sizes, long seed, Optional<Path> directory) {
+        PuzzleProvider provider = PuzzleRegistry.find(day);
+        Path inputDirectory = directory.orElse(Paths.get(System.getProperty("java.io.tmpdir"), "adventofcode2018", "scaling"));
+        new ScalingHarness(provider::create, System.out)
+                .scale(day, sizes.stream().map(Integer::valueOf).collect(toList()), seed, inputDirectory);
+    }
+
+    private static long seed(Arguments arguments) {
+        return arguments.option("--seed").map(Long::valueOf).orElse(DEFAULT_SEED);
     }
 
-    private static Puzzle loadPuzzle(Integer dayOfAdvent) {
-        return Optional.ofNullable(PUZZLES.get(dayOfAdvent))
-                .orElseThrow(() -> new IllegalArgumentException("Cannot load puzzle for day <" + dayOfAdvent + "> of advent!"));
+    private static void serve(PuzzleLoader puzzles, Optional<Path> socket, int port) {
+        SolverServer server = new SolverServer(puzzles::load, puzzles::load);
+        if (socket.isPresent()) {
+            server.serveUnixDomainSocket(socket.get());
+        } else {
+            server.serveTcp(port);
+        }
     }
 
-    static {
-        PUZZLES = Map.ofEntries(
-                Map.entry(1, new PuzzleDayOne()),
-                Map.entry(2, new PuzzleDayTwo()),
-                Map.entry(3, new PuzzleDayThree()),
-                Map.entry(4, new PuzzleDayFour()),
-                Map.entry(5, new PuzzleDayFive()),
-                Map.entry(6, new PuzzleDaySix()),
-                Map.entry(10, new PuzzleDayTen()),
-                Map.entry(11, new PuzzleDayEleven())
-        );
+    private static PrintStream createResultsFile(Path file) {
+        try {
+            return new PrintStream(Files.newOutputStream(file), false, UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create results file <" + file + ">!", e);
+        }
     }
 }
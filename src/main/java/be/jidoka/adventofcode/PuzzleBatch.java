@@ -0,0 +1,79 @@
+package be.jidoka.adventofcode;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+class PuzzleBatch {
+
+    private final Function<String, Puzzle<?>> puzzleForInputFile;
+    private final PrintStream results;
+
+    PuzzleBatch(Function<String, Puzzle<?>> puzzleForInputFile, PrintStream results) {
+        this.puzzleForInputFile = puzzleForInputFile;
+        this.results = results;
+    }
+
+    void solveAll(Path directory) {
+        long startedAt = System.nanoTime();
+
+        List<Path> inputFiles = listInputFiles(directory);
+
+        results.println("input,part_one,part_two,duration_ms,error");
+        inputFiles.forEach(this::solve);
+        results.flush();
+
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        System.err.println(String.format(Locale.ROOT, "Solved %d inputs in %.3f s (%.1f inputs/s)", inputFiles.size(), seconds, inputFiles.size() / seconds));
+    }
+
+    private List<Path> listInputFiles(Path directory) {
+        try (Stream<Path> inputFiles = Files.list(directory)) {
+            return inputFiles
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list input files in <" + directory + ">!", e);
+        }
+    }
+
+    private void solve(Path inputFile) {
+        long startedAt = System.nanoTime();
+
+        Object partOne = null;
+        Object partTwo = null;
+        String error = null;
+        try {
+            Puzzle<?> puzzle = puzzleForInputFile.apply(inputFile.toString());
+            partOne = puzzle.solvePartOne();
+            partTwo = puzzle.solvePartTwo();
+        } catch (RuntimeException e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+
+        results.println(String.join(",",
+                csv(inputFile.toString()),
+                csv(partOne),
+                csv(partTwo),
+                String.format(Locale.ROOT, "%.3f", (System.nanoTime() - startedAt) / 1_000_000.0),
+                csv(error)));
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        return "\"" + String.valueOf(value).replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,53 @@
+package be.jidoka.adventofcode;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+
+import java.util.function.Supplier;
+
+class PuzzleBench {
+
+    private final Puzzle<?> puzzle;
+    private final int warmUpRuns;
+    private final int measuredRuns;
+
+    PuzzleBench(Puzzle<?> puzzle, int warmUpRuns, int measuredRuns) {
+        if (measuredRuns < 1) {
+            throw new IllegalArgumentException("Cannot benchmark <" + measuredRuns + "> runs!");
+        }
+
+        this.puzzle = puzzle;
+        this.warmUpRuns = warmUpRuns;
+        this.measuredRuns = measuredRuns;
+    }
+
+    void run() {
+        bench("Part One", puzzle::solvePartOne);
+        bench("Part Two", puzzle::solvePartTwo);
+    }
+
+    private void bench(String part, Supplier<Object> solve) {
+        Object answer = null;
+        for (int i = 0; i < warmUpRuns; i++) {
+            answer = solve.get();
+        }
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        ThreadAllocations allocationsAtStart = ThreadAllocations.snapshot();
+        for (int i = 0; i < measuredRuns; i++) {
+            long startedAt = System.nanoTime();
+            answer = solve.get();
+            latencies.record(System.nanoTime() - startedAt);
+        }
+        long allocated = ThreadAllocations.snapshot().allocatedBytesSince(allocationsAtStart);
+
+        System.out.println("Your puzzle answer for " + part + " is " + answer);
+        System.out.println(String.format("%s: %d runs after %d warm-up runs, p50 %s, p99 %s, max %s, %.1f KB allocated per run",
+                part, latencies.getTotalCount(), warmUpRuns,
+                millis(latencies.percentile(50)), millis(latencies.percentile(99)), millis(latencies.getMaximum()),
+                allocated / 1024.0 / measuredRuns));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f ms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,56 @@
+package be.jidoka.adventofcode;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
+import be.jidoka.adventofcode.puzzle.TimeLimitedPuzzle;
+import be.jidoka.adventofcode.puzzle.answer.AnswerStore;
+import be.jidoka.adventofcode.puzzle.answer.StoredAnswerPuzzle;
+import be.jidoka.adventofcode.puzzle.metrics.InstrumentedPuzzle;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toMap;
+
+class PuzzleLoader {
+
+    private final Optional<AnswerStore> answers;
+    private final Optional<Duration> timeout;
+
+    PuzzleLoader(Optional<AnswerStore> answers, Optional<Duration> timeout) {
+        this.answers = answers;
+        this.timeout = timeout;
+    }
+
+    Puzzle<?> load(Integer dayOfAdvent) {
+        return decorate(dayOfAdvent, PuzzleRegistry.find(dayOfAdvent).create());
+    }
+
+    Puzzle<?> load(Integer dayOfAdvent, String inputFile) {
+        return decorate(dayOfAdvent, PuzzleRegistry.find(dayOfAdvent).create(inputFile));
+    }
+
+    Map<Integer, Puzzle<?>> loadAll() {
+        return PuzzleRegistry.findAll()
+                .stream()
+                .collect(toMap(PuzzleProvider::getDay, provider -> decorate(provider.getDay(), provider.create())));
+    }
+
+    private <T> Puzzle<T> decorate(Integer dayOfAdvent, Puzzle<T> puzzle) {
+        return withTimeout(withStoredAnswers(puzzle, new InstrumentedPuzzle<>(dayOfAdvent, puzzle)));
+    }
+
+    private <T> Puzzle<T> withTimeout(Puzzle<T> puzzle) {
+        return timeout.<Puzzle<T>>map(duration -> new TimeLimitedPuzzle<>(duration, puzzle)).orElse(puzzle);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Puzzle<T> withStoredAnswers(Puzzle<T> puzzle, Puzzle<T> solver) {
+        if (answers.isPresent() && puzzle instanceof PuzzleWithInputFile) {
+            return new StoredAnswerPuzzle<>((PuzzleWithInputFile<T>) puzzle, solver, answers.get());
+        }
+        return solver;
+    }
+}
@@ -0,0 +1,50 @@
+package be.jidoka.adventofcode;
+
+import be.jidoka.adventofcode.puzzle.IncrementalSolver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+class PuzzlePipeline {
+
+    private final IncrementalSolver<?> solver;
+    private final int reportEvery;
+
+    PuzzlePipeline(IncrementalSolver<?> solver, int reportEvery) {
+        this.solver = solver;
+        this.reportEvery = reportEvery;
+    }
+
+    void solve(BufferedReader input) {
+        long lines = 0;
+        long reportedLines = -1;
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                solver.accept(line.strip());
+                lines++;
+                if (reportEvery > 0 && lines % reportEvery == 0) {
+                    report(lines);
+                    reportedLines = lines;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read puzzle input!", e);
+        }
+        if (lines != reportedLines) {
+            report(lines);
+        }
+    }
+
+    private void report(long lines) {
+        System.out.println("After " + lines + " lines your puzzle answer for Part One is "
+                + solver.getPartOne().map(String::valueOf).orElse("unknown")
+                + " and for Part Two is "
+                + solver.getPartTwo().map(String::valueOf).orElse("unknown"));
+    }
+}
@@ -0,0 +1,32 @@
+package be.jidoka.adventofcode;
+
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
+
+class PuzzleRegistry {
+
+    private PuzzleRegistry() {
+    }
+
+    static PuzzleProvider find(int dayOfAdvent) {
+        for (PuzzleProvider provider : ServiceLoader.load(PuzzleProvider.class)) {
+            if (provider.getDay() == dayOfAdvent) {
+                return provider;
+            }
+        }
+        throw new IllegalArgumentException("Cannot load puzzle for day <" + dayOfAdvent + "> of advent!");
+    }
+
+    static List<PuzzleProvider> findAll() {
+        return ServiceLoader.load(PuzzleProvider.class)
+                .stream()
+                .map(ServiceLoader.Provider::get)
+                .sorted(comparingInt(PuzzleProvider::getDay))
+                .collect(toList());
+    }
+}
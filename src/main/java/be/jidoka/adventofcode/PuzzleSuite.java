@@ -0,0 +1,114 @@
+package be.jidoka.adventofcode;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.SolveCancelledException;
+import com.sun.management.OperatingSystemMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static java.util.Map.Entry.comparingByKey;
+import static java.util.stream.Collectors.toList;
+
+class PuzzleSuite {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final OperatingSystemMXBean OPERATING_SYSTEM = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+    private final Map<Integer, Puzzle<?>> puzzles;
+
+    PuzzleSuite(Map<Integer, Puzzle<?>> puzzles) {
+        this.puzzles = puzzles;
+    }
+
+    void solveAll() {
+        long startedAt = System.nanoTime();
+        long processCpuTimeAtStart = OPERATING_SYSTEM.getProcessCpuTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(puzzles.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            List<Future<Report>> reports = puzzles.entrySet()
+                    .stream()
+                    .sorted(comparingByKey())
+                    .map(puzzle -> executor.submit(() -> solve(puzzle.getKey(), puzzle.getValue())))
+                    .collect(toList());
+
+            for (Future<Report> report : reports) {
+                await(report).print();
+            }
+
+            System.out.println("Solved " + reports.size() + " puzzles in " + millis(System.nanoTime() - startedAt) + " wall time, " + millis(OPERATING_SYSTEM.getProcessCpuTime() - processCpuTimeAtStart) + " CPU time");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Report solve(Integer day, Puzzle<?> puzzle) {
+        long cpuTimeAtStart = THREADS.getCurrentThreadCpuTime();
+
+        long partOneStartedAt = System.nanoTime();
+        Object partOne = solveUnlessCancelled(puzzle::solvePartOne);
+        long partOneLatency = System.nanoTime() - partOneStartedAt;
+
+        long partTwoStartedAt = System.nanoTime();
+        Object partTwo = solveUnlessCancelled(puzzle::solvePartTwo);
+        long partTwoLatency = System.nanoTime() - partTwoStartedAt;
+
+        return new Report(day, partOne, partOneLatency, partTwo, partTwoLatency, THREADS.getCurrentThreadCpuTime() - cpuTimeAtStart);
+    }
+
+    private Object solveUnlessCancelled(Supplier<Object> solve) {
+        try {
+            return solve.get();
+        } catch (SolveCancelledException e) {
+            return "cancelled: " + e.getMessage();
+        }
+    }
+
+    private Report await(Future<Report> report) {
+        try {
+            return report.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while solving puzzles!", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot solve puzzle!", e.getCause());
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+
+    private static class Report {
+
+        private final Integer day;
+        private final Object partOne;
+        private final long partOneLatency;
+        private final Object partTwo;
+        private final long partTwoLatency;
+        private final long cpuTime;
+
+        private Report(Integer day, Object partOne, long partOneLatency, Object partTwo, long partTwoLatency, long cpuTime) {
+            this.day = day;
+            this.partOne = partOne;
+            this.partOneLatency = partOneLatency;
+            this.partTwo = partTwo;
+            this.partTwoLatency = partTwoLatency;
+            this.cpuTime = cpuTime;
+        }
+
+        private void print() {
+            System.out.println("Advent of Code --- Day " + day);
+            System.out.println("Your puzzle answer for Part One is " + partOne + " (" + millis(partOneLatency) + ")");
+            System.out.println("Your puzzle answer for Part Two is " + partTwo + " (" + millis(partTwoLatency) + ")");
+            System.out.println("Solving thread CPU time " + millis(cpuTime) + " (parallel stream workers not included)");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package be.jidoka.adventofcode;
+
+import be.jidoka.adventofcode.generator.InputGenerators;
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+class ScalingHarness {
+    private static final int PLOT_WIDTH = 50;
+
+    private final Function<String, Puzzle<?>> puzzleForInputFile;
+    private final PrintStream results;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    ScalingHarness(Function<String, Puzzle<?>> puzzleForInputFile, PrintStream results) {
+        this.puzzleForInputFile = puzzleForInputFile;
+        this.results = results;
+    }
+
+    void scale(int day, List<Integer> sizes, long seed, Path directory) {
+        createDirectory(directory);
+
+        if (!sizes.isEmpty()) {
+            Path warmUpFile = directory.resolve("day" + day + "-warm-up.txt");
+            InputGenerators.generate(day, sizes.get(0), seed, warmUpFile);
+            measure(sizes.get(0), warmUpFile);
+        }
+
+        List<Measurement> measurements = new ArrayList<>();
+        results.println("size,input_bytes,part_one_ms,part_two_ms,allocated_mb,retained_heap_mb");
+        for (int size : sizes) {
+            Path inputFile = directory.resolve("day" + day + "-" + size + ".txt");
+            InputGenerators.generate(day, size, seed, inputFile);
+
+            Measurement measurement = measure(size, inputFile);
+            measurements.add(measurement);
+            results.println(String.format(Locale.ROOT, "%d,%d,%.3f,%.3f,%.1f,%.1f",
+                    measurement.size, measurement.inputBytes, measurement.partOneMillis, measurement.partTwoMillis,
+                    measurement.allocatedBytes / 1_048_576.0, measurement.retainedHeapBytes / 1_048_576.0));
+        }
+        results.flush();
+
+        plot("runtime (ms)", measurements, measurement -> measurement.partOneMillis + measurement.partTwoMillis);
+        plot("allocated (MB)", measurements, measurement -> measurement.allocatedBytes / 1_048_576.0);
+    }
+
+    private Measurement measure(int size, Path inputFile) {
+        PuzzleWithInputFile.clearParsedInputs();
+        System.gc();
+        long heapBefore = memory.getHeapMemoryUsage().getUsed();
+        ThreadAllocations allocationsBefore = ThreadAllocations.snapshot();
+
+        Puzzle<?> puzzle = puzzleForInputFile.apply(inputFile.toString());
+        long startedAt = System.nanoTime();
+        puzzle.solvePartOne();
+        long partOneSolvedAt = System.nanoTime();
+        puzzle.solvePartTwo();
+        long partTwoSolvedAt = System.nanoTime();
+
+        long allocated = ThreadAllocations.snapshot().allocatedBytesSince(allocationsBefore);
+        System.gc();
+        long retained = Math.max(0, memory.getHeapMemoryUsage().getUsed() - heapBefore);
+
+        return new Measurement(size, size(inputFile),
+                (partOneSolvedAt - startedAt) / 1_000_000.0, (partTwoSolvedAt - partOneSolvedAt) / 1_000_000.0,
+                allocated, retained);
+    }
+
+    private void plot(String title, List<Measurement> measurements, Function<Measurement, Double> value) {
+        double maximum = measurements.stream().mapToDouble(value::apply).max().orElse(0);
+
+        System.err.println(title);
+        for (Measurement measurement : measurements) {
+            double current = value.apply(measurement);
+            int width = maximum == 0 ? 0 : (int) Math.round(current / maximum * PLOT_WIDTH);
+            System.err.println(String.format("%12d | %-" + PLOT_WIDTH + "s %.1f", measurement.size, "#".repeat(width), current));
+        }
+    }
+
+    private static void createDirectory(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create input directory <" + directory + ">!", e);
+        }
+    }
+
+    private static long size(Path inputFile) {
+        try {
+            return Files.size(inputFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read size of input file <" + inputFile + ">!", e);
+        }
+    }
+
+    private static class Measurement {
+
+        private final int size;
+        private final long inputBytes;
+        private final double partOneMillis;
+        private final double partTwoMillis;
+        private final long allocatedBytes;
+        private final long retainedHeapBytes;
+
+        private Measurement(int size, long inputBytes, double partOneMillis, double partTwoMillis, long allocatedBytes, long retainedHeapBytes) {
+            this.size = size;
+            this.inputBytes = inputBytes;
+            this.partOneMillis = partOneMillis;
+            this.partTwoMillis = partTwoMillis;
+            this.allocatedBytes = allocatedBytes;
+            this.retainedHeapBytes = retainedHeapBytes;
+        }
+    }
+}
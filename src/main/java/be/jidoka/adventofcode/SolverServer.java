@@ -0,0 +1,138 @@
+package be.jidoka.adventofcode;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+class SolverServer {
+
+    private final Function<Integer, Puzzle<?>> puzzles;
+    private final BiFunction<Integer, String, Puzzle<?>> puzzlesForInputFile;
+    private final Map<Integer, Puzzle<?>> residentPuzzles;
+    private final ExecutorService connections;
+
+    SolverServer(Function<Integer, Puzzle<?>> puzzles, BiFunction<Integer, String, Puzzle<?>> puzzlesForInputFile) {
+        this.puzzles = puzzles;
+        this.puzzlesForInputFile = puzzlesForInputFile;
+        this.residentPuzzles = new ConcurrentHashMap<>();
+        this.connections = Executors.newCachedThreadPool();
+    }
+
+    void serveTcp(int port) {
+        serve(ServerSocketChannelFactory.TCP, new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    void serveUnixDomainSocket(Path socket) {
+        try {
+            Files.deleteIfExists(socket);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot remove stale socket <" + socket + ">!", e);
+        }
+        serve(ServerSocketChannelFactory.UNIX, UnixDomainSocketAddress.of(socket));
+    }
+
+    private void serve(ServerSocketChannelFactory channelFactory, SocketAddress address) {
+        try (ServerSocketChannel server = channelFactory.open()) {
+            server.bind(address);
+            System.err.println("Solving puzzles on " + address);
+
+            while (!Thread.currentThread().isInterrupted()) {
+                SocketChannel connection = server.accept();
+                connections.submit(() -> handle(connection));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot serve puzzles on <" + address + ">!", e);
+        } finally {
+            connections.shutdownNow();
+        }
+    }
+
+    private void handle(SocketChannel connection) {
+        try (connection;
+             BufferedReader requests = new BufferedReader(new InputStreamReader(Channels.newInputStream(connection), UTF_8));
+             PrintWriter responses = new PrintWriter(Channels.newWriter(connection, UTF_8), true)) {
+            String request;
+            while ((request = requests.readLine()) != null) {
+                if (!request.isBlank()) {
+                    responses.println(respond(request.trim()));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Connection closed unexpectedly: " + e.getMessage());
+        }
+    }
+
+    private String respond(String request) {
+        try {
+            String[] arguments = request.split("\\s+", 3);
+            if (arguments.length < 2) {
+                throw new IllegalArgumentException("Expected a request as <day> <part> [input file]!");
+            }
+
+            Puzzle<?> puzzle = puzzleFor(Integer.valueOf(arguments[0]), arguments.length == 3 ? arguments[2] : null);
+
+            long startedAt = System.nanoTime();
+            Object answer = solve(puzzle, arguments[1]);
+            long duration = System.nanoTime() - startedAt;
+
+            return String.format(Locale.ROOT, "OK %.3f %s", duration / 1_000_000.0, escape(String.valueOf(answer)));
+        } catch (RuntimeException e) {
+            return "ERR " + escape(String.valueOf(e.getMessage()));
+        }
+    }
+
+    private Puzzle<?> puzzleFor(Integer day, String inputFile) {
+        if (inputFile == null) {
+            return residentPuzzles.computeIfAbsent(day, puzzles);
+        }
+        return puzzlesForInputFile.apply(day, inputFile);
+    }
+
+    private Object solve(Puzzle<?> puzzle, String part) {
+        switch (part) {
+            case "1":
+            case "one":
+                return puzzle.solvePartOne();
+            case "2":
+            case "two":
+                return puzzle.solvePartTwo();
+            default:
+                throw new IllegalArgumentException("Cannot solve part <" + part + ">, expected one or two!");
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private enum ServerSocketChannelFactory {
+        TCP, UNIX;
+
+        private ServerSocketChannel open() throws IOException {
+            return this == UNIX ? ServerSocketChannel.open(StandardProtocolFamily.UNIX) : ServerSocketChannel.open();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package be.jidoka.adventofcode;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+class ThreadAllocations {
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Map<Long, Long> allocatedBytesByThread;
+
+    private ThreadAllocations(Map<Long, Long> allocatedBytesByThread) {
+        this.allocatedBytesByThread = allocatedBytesByThread;
+    }
+
+    static ThreadAllocations snapshot() {
+        long[] threadIds = THREADS.getAllThreadIds();
+        long[] allocatedBytes = THREADS.getThreadAllocatedBytes(threadIds);
+
+        Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            if (allocatedBytes[i] >= 0) {
+                allocatedBytesByThread.put(threadIds[i], allocatedBytes[i]);
+            }
+        }
+        return new ThreadAllocations(allocatedBytesByThread);
+    }
+
+    long allocatedBytesSince(ThreadAllocations start) {
+        return allocatedBytesByThread.entrySet()
+                .stream()
+                .mapToLong(thread -> thread.getValue() - start.allocatedBytesByThread.getOrDefault(thread.getKey(), 0L))
+                .sum();
+    }
+}
@@ -0,0 +1,10 @@
+package be.jidoka.adventofcode.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+public interface InputGenerator {
+
+    void generate(int size, Random random, Writer input) throws IOException;
+}
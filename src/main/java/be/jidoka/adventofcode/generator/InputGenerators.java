@@ -0,0 +1,204 @@
+package be.jidoka.adventofcode.generator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+public class InputGenerators {
+    private static final Map<Integer, InputGenerator> GENERATORS = Map.ofEntries(
+            Map.entry(1, new FrequencyChanges()),
+            Map.entry(2, new BoxIds()),
+            Map.entry(3, new Claims()),
+            Map.entry(4, new GuardEvents()),
+            Map.entry(5, new Polymer()),
+            Map.entry(6, new Coordinates()),
+            Map.entry(10, new Stars()),
+            Map.entry(11, new GridSerialNumber())
+    );
+
+    private InputGenerators() {
+    }
+
+    public static InputGenerator forDay(int dayOfAdvent) {
+        return Optional.ofNullable(GENERATORS.get(dayOfAdvent))
+                .orElseThrow(() -> new IllegalArgumentException("Cannot generate input for day <" + dayOfAdvent + "> of advent!"));
+    }
+
+    public static void generate(int dayOfAdvent, int size, long seed, Path inputFile) {
+        try (BufferedWriter input = Files.newBufferedWriter(inputFile, US_ASCII)) {
+            forDay(dayOfAdvent).generate(size, new Random(seed), input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot generate input file <" + inputFile + ">!", e);
+        }
+    }
+
+    private static class FrequencyChanges implements InputGenerator {
+
+        @Override
+        public void generate(int size, Random random, Writer input) throws IOException {
+            for (int i = 0; i < size; i++) {
+                int change = 1 + random.nextInt(1000);
+                input.write(random.nextBoolean() ? "+" + change : "-" + change);
+                input.write('\n');
+            }
+        }
+    }
+
+    private static class BoxIds implements InputGenerator {
+        private static final int ID_LENGTH = 26;
+
+        @Override
+        public void generate(int size, Random random, Writer input) throws IOException {
+            int twin = random.nextInt(Math.max(1, size - 1));
+
+            char[] twinId = null;
+            for (int i = 0; i < size; i++) {
+                char[] id = randomId(random);
+                if (i == twin) {
+                    twinId = id;
+                } else if (i == twin + 1) {
+                    id = twinId.clone();
+                    int position = random.nextInt(ID_LENGTH);
+                    id[position] = (char) ('a' + (id[position] - 'a' + 1 + random.nextInt(25)) % 26);
+                }
+                input.write(id);
+                input.write('\n');
+            }
+        }
+
+        private char[] randomId(Random random) {
+            char[] id = new char[ID_LENGTH];
+            for (int i = 0; i < ID_LENGTH; i++) {
+                id[i] = (char) ('a' + random.nextInt(26));
+            }
+            return id;
+        }
+    }
+
+    private static class Claims implements InputGenerator {
+        private static final int MAXIMUM_CLAIM_SIZE = 30;
+
+        @Override
+        public void generate(int size, Random random, Writer input) throws IOException {
+            int fabricSize = Math.max(1000, (int) Math.sqrt(size) * MAXIMUM_CLAIM_SIZE);
+            int isolatedClaim = random.nextInt(size);
+
+            for (int id = 1; id <= size; id++) {
+                if (id - 1 == isolatedClaim) {
+                    input.write("#" + id + " @ " + (fabricSize + 1) + "," + random.nextInt(fabricSize) + ": 5x5\n");
+                } else {
+                    int width = 1 + random.nextInt(MAXIMUM_CLAIM_SIZE);
+                    int depth = 1 + random.nextInt(MAXIMUM_CLAIM_SIZE);
+                    input.write("#" + id + " @ " + random.nextInt(fabricSize - width) + "," + random.nextInt(fabricSize - depth) + ": " + width + "x" + depth + "\n");
+                }
+            }
+        }
+    }
+
+    private static class GuardEvents implements InputGenerator {
+        private static final LocalDate FIRST_SHIFT = LocalDate.of(1518, 1, 1);
+
+        @Override
+        public void generate(int size, Random random, Writer input) throws IOException {
+            int guards = Math.max(1, (int) Math.sqrt(size / 5.0));
+
+            List<String> events = new ArrayList<>();
+            LocalDate shift = FIRST_SHIFT;
+            while (events.size() < size) {
+                LocalDate startOfShift = random.nextBoolean() ? shift.minusDays(1) : shift;
+                int startMinute = startOfShift.equals(shift) ? random.nextInt(5) : 45 + random.nextInt(15);
+                int startHour = startOfShift.equals(shift) ? 0 : 23;
+                events.add(event(startOfShift, startHour, startMinute, "Guard #" + (1 + random.nextInt(guards) * 7) + " begins shift"));
+
+                int minute = 5 + random.nextInt(10);
+                while (minute < 55 && events.size() < size) {
+                    events.add(event(shift, 0, minute, "falls asleep"));
+                    minute += 1 + random.nextInt(Math.max(1, 58 - minute));
+                    events.add(event(shift, 0, Math.min(minute, 59), "wakes up"));
+                    minute += 1 + random.nextInt(10);
+                }
+                shift = shift.plusDays(1);
+            }
+
+            Collections.shuffle(events, random);
+            for (String event : events) {
+                input.write(event);
+                input.write('\n');
+            }
+        }
+
+        private String event(LocalDate date, int hour, int minute, String description) {
+            return String.format("[%s %02d:%02d] %s", date, hour, minute, description);
+        }
+    }
+
+    private static class Polymer implements InputGenerator {
+
+        @Override
+        public void generate(int size, Random random, Writer input) throws IOException {
+            for (int i = 0; i < size; i++) {
+                char unit = (char) ('a' + random.nextInt(26));
+                input.write(random.nextBoolean() ? Character.toUpperCase(unit) : unit);
+            }
+            input.write('\n');
+        }
+    }
+
+    private static class Coordinates implements InputGenerator {
+
+        @Override
+        public void generate(int size, Random random, Writer input) throws IOException {
+            int range = Math.max(400, (int) Math.sqrt(size) * 60);
+
+            Set<Long> coordinates = new HashSet<>();
+            while (coordinates.size() < size) {
+                int x = random.nextInt(range);
+                int y = random.nextInt(range);
+                if (coordinates.add((long) x << 32 | y)) {
+                    input.write(x + ", " + y + "\n");
+                }
+            }
+        }
+    }
+
+    private static class Stars implements InputGenerator {
+        private static final int SECONDS_TO_ALIGN = 10_000;
+        private static final int MESSAGE_HEIGHT = 10;
+
+        @Override
+        public void generate(int size, Random random, Writer input) throws IOException {
+            int messageWidth = Math.max(60, size / MESSAGE_HEIGHT);
+
+            for (int i = 0; i < size; i++) {
+                int horizontalSpeed = random.nextInt(11) - 5;
+                int verticalSpeed = random.nextInt(11) - 5;
+                int x = random.nextInt(messageWidth) - horizontalSpeed * SECONDS_TO_ALIGN;
+                int y = random.nextInt(MESSAGE_HEIGHT) - verticalSpeed * SECONDS_TO_ALIGN;
+                input.write(String.format("position=<%6d, %6d> velocity=<%2d, %2d>%n", x, y, horizontalSpeed, verticalSpeed));
+            }
+        }
+    }
+
+    private static class GridSerialNumber implements InputGenerator {
+
+        @Override
+        public void generate(int size, Random random, Writer input) throws IOException {
+            input.write(String.valueOf(1 + random.nextInt(10_000)));
+            input.write('\n');
+        }
+    }
+}
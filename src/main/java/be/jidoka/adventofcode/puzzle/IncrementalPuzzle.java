@@ -0,0 +1,6 @@
+package be.jidoka.adventofcode.puzzle;
+
+public interface IncrementalPuzzle<T> extends Puzzle<T> {
+
+    IncrementalSolver<T> solveIncrementally();
+}
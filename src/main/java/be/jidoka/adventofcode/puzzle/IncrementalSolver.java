@@ -0,0 +1,12 @@
+package be.jidoka.adventofcode.puzzle;
+
+import java.util.Optional;
+
+public interface IncrementalSolver<T> {
+
+    void accept(String line);
+
+    Optional<T> getPartOne();
+
+    Optional<T> getPartTwo();
+}
@@ -0,0 +1,167 @@
+package be.jidoka.adventofcode.puzzle;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class InputScanner {
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char SPACE = ' ';
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    private byte[] line;
+
+    InputScanner(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.position = buffer.position();
+        this.line = new byte[128];
+    }
+
+    public static InputScanner of(String line) {
+        return new InputScanner(ByteBuffer.wrap(line.getBytes(UTF_8)));
+    }
+
+    public boolean hasRemaining() {
+        return position < limit;
+    }
+
+    public boolean hasRemainingOnLine() {
+        return position < limit && !is(LINE_FEED) && !is(CARRIAGE_RETURN);
+    }
+
+    public byte nextByte() {
+        if (position >= limit) {
+            throw unexpected("a character");
+        }
+        return buffer.get(position++);
+    }
+
+    public int nextInt() {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw unexpected("a number within integer range");
+        }
+        return (int) value;
+    }
+
+    public long nextLong() {
+        boolean negative = false;
+        if (is('-')) {
+            negative = true;
+            position++;
+        } else if (is('+')) {
+            position++;
+        }
+
+        if (!isDigit()) {
+            throw unexpected("a number");
+        }
+
+        long value = 0;
+        while (isDigit()) {
+            try {
+                value = Math.addExact(Math.multiplyExact(value, 10), buffer.get(position) - '0');
+            } catch (ArithmeticException e) {
+                throw unexpected("a number within long range");
+            }
+            position++;
+        }
+        return negative ? -value : value;
+    }
+
+    public int nextFixedWidthInt(int width) {
+        int value = 0;
+        for (int i = 0; i < width; i++) {
+            if (!isDigit()) {
+                throw unexpected("a " + width + " digit number");
+            }
+            value = value * 10 + (buffer.get(position++) - '0');
+        }
+        return value;
+    }
+
+    public String nextLine() {
+        int start = position;
+        while (position < limit && buffer.get(position) != LINE_FEED) {
+            position++;
+        }
+
+        int end = position;
+        if (end > start && buffer.get(end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+        return decode(start, end - start);
+    }
+
+    public void expect(char character) {
+        if (!is(character)) {
+            throw unexpected("'" + character + "'");
+        }
+        position++;
+    }
+
+    public void expect(String keyword) {
+        if (!skip(keyword)) {
+            throw unexpected("'" + keyword + "'");
+        }
+    }
+
+    public boolean skip(String keyword) {
+        if (limit - position < keyword.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length(); i++) {
+            if (buffer.get(position + i) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        position += keyword.length();
+        return true;
+    }
+
+    public void skipSpaces() {
+        while (position < limit && buffer.get(position) == SPACE) {
+            position++;
+        }
+    }
+
+    void endLine() {
+        if (is(CARRIAGE_RETURN)) {
+            position++;
+        }
+        if (position < limit) {
+            if (!is(LINE_FEED)) {
+                throw unexpected("the end of the line");
+            }
+            position++;
+        }
+    }
+
+    private boolean is(char character) {
+        return position < limit && buffer.get(position) == character;
+    }
+
+    private boolean isDigit() {
+        if (position >= limit) {
+            return false;
+        }
+        byte current = buffer.get(position);
+        return current >= '0' && current <= '9';
+    }
+
+    private String decode(int start, int length) {
+        if (line.length < length) {
+            line = new byte[Math.max(length, line.length * 2)];
+        }
+        buffer.get(start, line, 0, length);
+        return new String(line, 0, length, UTF_8);
+    }
+
+    private IllegalStateException unexpected(String expected) {
+        return new IllegalStateException("Expected " + expected + " at byte <" + position + "> of the input!");
+    }
+}
@@ -0,0 +1,18 @@
+package be.jidoka.adventofcode.puzzle;
+
+public interface IntPuzzle extends Puzzle<Integer> {
+
+    int solvePartOneAsInt();
+
+    int solvePartTwoAsInt();
+
+    @Override
+    default Integer solvePartOne() {
+        return solvePartOneAsInt();
+    }
+
+    @Override
+    default Integer solvePartTwo() {
+        return solvePartTwoAsInt();
+    }
+}
@@ -0,0 +1,18 @@
+package be.jidoka.adventofcode.puzzle;
+
+public interface LongPuzzle extends Puzzle<Long> {
+
+    long solvePartOneAsLong();
+
+    long solvePartTwoAsLong();
+
+    @Override
+    default Long solvePartOne() {
+        return solvePartOneAsLong();
+    }
+
+    @Override
+    default Long solvePartTwo() {
+        return solvePartTwoAsLong();
+    }
+}
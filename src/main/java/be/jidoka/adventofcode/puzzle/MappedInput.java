@@ -0,0 +1,155 @@
+package be.jidoka.adventofcode.puzzle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+public class MappedInput {
+    private static final long MAXIMUM_SEGMENT_SIZE = Integer.MAX_VALUE;
+    private static final byte LINE_FEED = '\n';
+
+    private final List<ByteBuffer> segments;
+    private final long size;
+
+    private MappedInput(List<ByteBuffer> segments, long size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    public static MappedInput map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            long size = channel.size();
+
+            List<ByteBuffer> segments = new ArrayList<>();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(MAXIMUM_SEGMENT_SIZE, size - position);
+                ByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                if (position + length < size) {
+                    segment = cutAfterLastLineFeed(segment, position);
+                }
+                segments.add(segment);
+                position += segment.limit();
+            }
+            return new MappedInput(segments, size);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot map input file <" + path + ">!", e);
+        }
+    }
+
+    public static MappedInput read(InputStream inputStream) {
+        try (inputStream) {
+            byte[] content = inputStream.readAllBytes();
+            return new MappedInput(List.of(ByteBuffer.wrap(content)), content.length);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read input!", e);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public Stream<ByteBuffer> segments() {
+        return segments.stream().map(ByteBuffer::asReadOnlyBuffer);
+    }
+
+    public void digest(MessageDigest digest) {
+        segments().forEach(digest::update);
+    }
+
+    public Stream<String> lines() {
+        return records(InputScanner::nextLine);
+    }
+
+    public <R> Stream<R> records(Function<InputScanner, R> recordReader) {
+        return StreamSupport.stream(new RecordSpliterator<>(segments.iterator(), recordReader), false);
+    }
+
+    public long sumRecords(ToLongFunction<InputScanner> recordReader) {
+        long sum = 0;
+        for (ByteBuffer segment : segments) {
+            InputScanner scanner = new InputScanner(segment.duplicate());
+            while (scanner.hasRemaining()) {
+                sum += recordReader.applyAsLong(scanner);
+                scanner.endLine();
+            }
+        }
+        return sum;
+    }
+
+    public List<MappedInput> split(long chunkSize) {
+        List<MappedInput> chunks = new ArrayList<>();
+        for (ByteBuffer segment : segments) {
+            int start = 0;
+            while (start < segment.limit()) {
+                int end = endOfLineFrom(segment, (int) Math.min(segment.limit(), start + chunkSize));
+                ByteBuffer chunk = segment.slice(start, end - start);
+                chunks.add(new MappedInput(List.of(chunk), chunk.limit()));
+                start = end;
+            }
+        }
+        return chunks;
+    }
+
+    private static int endOfLineFrom(ByteBuffer segment, int position) {
+        for (int i = Math.max(0, position - 1); i < segment.limit(); i++) {
+            if (segment.get(i) == LINE_FEED) {
+                return i + 1;
+            }
+        }
+        return segment.limit();
+    }
+
+    private static ByteBuffer cutAfterLastLineFeed(ByteBuffer segment, long position) {
+        for (int i = segment.limit() - 1; i >= 0; i--) {
+            if (segment.get(i) == LINE_FEED) {
+                return segment.slice(0, i + 1);
+            }
+        }
+        throw new IllegalArgumentException("Cannot map a line longer than <" + segment.limit() + "> bytes starting at <" + position + ">!");
+    }
+
+    private static class RecordSpliterator<R> extends Spliterators.AbstractSpliterator<R> {
+
+        private final Iterator<ByteBuffer> segments;
+        private final Function<InputScanner, R> recordReader;
+        private InputScanner scanner;
+
+        private RecordSpliterator(Iterator<ByteBuffer> segments, Function<InputScanner, R> recordReader) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            this.segments = segments;
+            this.recordReader = recordReader;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            while (scanner == null || !scanner.hasRemaining()) {
+                if (!segments.hasNext()) {
+                    return false;
+                }
+                scanner = new InputScanner(segments.next());
+            }
+
+            R record = recordReader.apply(scanner);
+            scanner.endLine();
+            action.accept(record);
+            return true;
+        }
+    }
+}
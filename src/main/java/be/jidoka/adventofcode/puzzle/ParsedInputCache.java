@@ -0,0 +1,113 @@
+package be.jidoka.adventofcode.puzzle;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class ParsedInputCache {
+
+    private final int maximumSize;
+    private final long maximumAgeInNanos;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    public ParsedInputCache(int maximumSize, Duration maximumAge) {
+        this.maximumSize = maximumSize;
+        this.maximumAgeInNanos = maximumAge.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <M> M get(Key key, Supplier<M> parser) {
+        return (M) entryFor(key).getValue(parser);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private synchronized Entry entryFor(Key key) {
+        long now = System.nanoTime();
+        evictExpiredEntries(now);
+
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(key, entry);
+            evictEldestEntries();
+        }
+        entry.touch(now);
+        return entry;
+    }
+
+    private void evictExpiredEntries(long now) {
+        entries.values().removeIf(entry -> now - entry.getLastAccess() > maximumAgeInNanos);
+    }
+
+    private void evictEldestEntries() {
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maximumSize) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    public static class Key {
+
+        private final Class<?> puzzle;
+        private final String location;
+        private final long size;
+        private final long lastModified;
+
+        public Key(Class<?> puzzle, String location, long size, long lastModified) {
+            this.puzzle = puzzle;
+            this.location = location;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return size == key.size &&
+                    lastModified == key.lastModified &&
+                    Objects.equals(puzzle, key.puzzle) &&
+                    Objects.equals(location, key.location);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(puzzle, location, size, lastModified);
+        }
+
+        @Override
+        public String toString() {
+            return puzzle.getSimpleName() + "@" + location;
+        }
+    }
+
+    private static class Entry {
+
+        private volatile long lastAccess;
+        private Object value;
+
+        private void touch(long now) {
+            this.lastAccess = now;
+        }
+
+        private long getLastAccess() {
+            return lastAccess;
+        }
+
+        private synchronized Object getValue(Supplier<?> parser) {
+            if (value == null) {
+                value = Objects.requireNonNull(parser.get(), "Expected a parsed puzzle input!");
+            }
+            return value;
+        }
+    }
+}
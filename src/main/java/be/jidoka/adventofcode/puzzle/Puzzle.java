@@ -5,4 +5,12 @@ public interface Puzzle<T> {
     T solvePartOne();
 
     T solvePartTwo();
+
+    default T solvePartOne(SolveControl control) {
+        return control.solve(this::solvePartOne);
+    }
+
+    default T solvePartTwo(SolveControl control) {
+        return control.solve(this::solvePartTwo);
+    }
 }
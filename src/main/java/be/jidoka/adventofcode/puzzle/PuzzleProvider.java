@@ -0,0 +1,10 @@
+package be.jidoka.adventofcode.puzzle;
+
+public interface PuzzleProvider {
+
+    int getDay();
+
+    Puzzle<?> create();
+
+    Puzzle<?> create(String fileName);
+}
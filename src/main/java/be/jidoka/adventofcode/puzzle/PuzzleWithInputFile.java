@@ -1,21 +1,101 @@
 package be.jidoka.adventofcode.puzzle;
 
+import be.jidoka.adventofcode.puzzle.metrics.PuzzleMetrics;
+
+import java.net.URL;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 public abstract class PuzzleWithInputFile<T> implements Puzzle<T> {
+    private static final ParsedInputCache PARSED_INPUTS = new ParsedInputCache(32, Duration.ofMinutes(10));
+    private static final ParsedInputCache INPUT_DIGESTS = new ParsedInputCache(1024, Duration.ofMinutes(10));
+
+    private final String fileName;
+
+    protected PuzzleWithInputFile(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public static void clearParsedInputs() {
+        PARSED_INPUTS.clear();
+        INPUT_DIGESTS.clear();
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void digestPuzzleInput(MessageDigest digest) {
+        byte[] inputDigest = INPUT_DIGESTS.get(identify(), () -> {
+            try {
+                MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+                mapPuzzleInput().digest(sha256);
+                return sha256.digest();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Expected SHA-256 to be available!", e);
+            }
+        });
+        digest.update(inputDigest);
+    }
+
+    protected Stream<String> streamPuzzleInput() {
+        return mapPuzzleInput().lines();
+    }
+
+    protected <M> M parsePuzzleInput(Function<Stream<String>, M> parser) {
+        return scanPuzzleInput(InputScanner::nextLine, parser);
+    }
 
-    protected Stream<String> streamPuzzleInput(String fileName) {
-        return readContentOfInputFile(fileName).stream();
+    protected <R, M> M scanPuzzleInput(Function<InputScanner, R> recordReader, Function<Stream<R>, M> parser) {
+        return PARSED_INPUTS.get(identify(), () -> {
+            MappedInput input = mapPuzzleInput();
+            PuzzleMetrics.ParseRecording recording = PuzzleMetrics.startParse(getClass(), fileName);
+            try (Stream<R> records = input.records(recordReader).peek(record -> recording.lineParsed())) {
+                M parsed = parser.apply(records);
+                recording.finish(input.size(), parsed);
+                return parsed;
+            }
+        });
     }
 
-    private List<String> readContentOfInputFile(String fileName) {
+    protected MappedInput mapPuzzleInput() {
         try {
-            return Files.readAllLines(Paths.get(this.getClass().getClassLoader().getResource(fileName).toURI()));
+            URL location = locate();
+            if ("file".equals(location.getProtocol())) {
+                return MappedInput.map(Paths.get(location.toURI()));
+            }
+            return MappedInput.read(location.openStream());
         } catch (Exception e) {
-            throw new IllegalArgumentException("Cannot read input file for this puzzle!");
+            throw new IllegalArgumentException("Cannot read input file <" + fileName + "> for this puzzle!");
+        }
+    }
+
+    private ParsedInputCache.Key identify() {
+        try {
+            URL location = locate();
+            if ("file".equals(location.getProtocol())) {
+                Path path = Paths.get(location.toURI());
+                return new ParsedInputCache.Key(getClass(), path.toString(), Files.size(path), Files.getLastModifiedTime(path).toMillis());
+            }
+            return new ParsedInputCache.Key(getClass(), location.toString(), -1L, -1L);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cannot read input file <" + fileName + "> for this puzzle!");
+        }
+    }
+
+    private URL locate() throws Exception {
+        Path path = Paths.get(fileName);
+        if (Files.isRegularFile(path)) {
+            return path.toUri().toURL();
         }
+        return Optional.ofNullable(this.getClass().getClassLoader().getResource(fileName))
+                .orElseThrow(IllegalArgumentException::new);
     }
 }
@@ -0,0 +1,9 @@
+package be.jidoka.adventofcode.puzzle;
+
+public class SolveCancelledException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public SolveCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,101 @@
+package be.jidoka.adventofcode.puzzle;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+public class SolveControl {
+    private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private final long startedAt;
+    private final long timeout;
+    private volatile boolean cancelled;
+    private volatile double progress;
+
+    private SolveControl(long timeout) {
+        this.startedAt = System.nanoTime();
+        this.timeout = timeout;
+    }
+
+    public static SolveControl create() {
+        return new SolveControl(NO_DEADLINE);
+    }
+
+    public static SolveControl withTimeout(Duration timeout) {
+        return new SolveControl(timeout.toNanos());
+    }
+
+    public static void checkpoint() {
+        for (Binding binding = CURRENT.get(); binding != null; binding = binding.outer) {
+            binding.control.check();
+        }
+    }
+
+    public static void checkpoint(long done, long total) {
+        Binding binding = CURRENT.get();
+        if (binding != null) {
+            binding.control.progress = total == 0 ? 1.0 : (double) done / total;
+        }
+        checkpoint();
+    }
+
+    public static Runnable checkpointForCurrentSolve() {
+        Binding binding = CURRENT.get();
+        return () -> {
+            for (Binding current = binding; current != null; current = current.outer) {
+                current.control.check();
+            }
+        };
+    }
+
+    public <T> T solve(Supplier<T> solve) {
+        Binding outer = CURRENT.get();
+        CURRENT.set(new Binding(this, outer));
+        try {
+            checkpoint();
+            return solve.get();
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isExpired() {
+        return timeout != NO_DEADLINE && System.nanoTime() - startedAt > timeout;
+    }
+
+    public double getProgress() {
+        return progress;
+    }
+
+    private void check() {
+        if (cancelled || Thread.currentThread().isInterrupted()) {
+            throw new SolveCancelledException("Cannot finish a cancelled solve!");
+        }
+        if (isExpired()) {
+            throw new SolveCancelledException("Cannot finish solve within <" + Duration.ofNanos(timeout) + ">!");
+        }
+    }
+
+    private static class Binding {
+
+        private final SolveControl control;
+        private final Binding outer;
+
+        private Binding(SolveControl control, Binding outer) {
+            this.control = control;
+            this.outer = outer;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package be.jidoka.adventofcode.puzzle;
+
+import java.time.Duration;
+
+public class TimeLimitedPuzzle<T> implements Puzzle<T> {
+
+    private final Duration timeout;
+    private final Puzzle<T> puzzle;
+
+    public TimeLimitedPuzzle(Duration timeout, Puzzle<T> puzzle) {
+        this.timeout = timeout;
+        this.puzzle = puzzle;
+    }
+
+    @Override
+    public T solvePartOne() {
+        return puzzle.solvePartOne(SolveControl.withTimeout(timeout));
+    }
+
+    @Override
+    public T solvePartTwo() {
+        return puzzle.solvePartTwo(SolveControl.withTimeout(timeout));
+    }
+}
@@ -0,0 +1,116 @@
+package be.jidoka.adventofcode.puzzle.answer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+public class AnswerStore {
+    private static final String ANSWER_EXTENSION = ".answer";
+    private static final String INTEGER = "integer";
+    private static final String LONG = "long";
+    private static final String STRING = "string";
+
+    private final Path directory;
+    private final int maximumSize;
+
+    public AnswerStore(Path directory, int maximumSize) {
+        this.directory = directory;
+        this.maximumSize = maximumSize;
+    }
+
+    public Optional<Object> get(String key) {
+        Path answer = answerFile(key);
+        try {
+            String storedAnswer = Files.readString(answer, UTF_8);
+            Files.setLastModifiedTime(answer, FileTime.from(Instant.now()));
+            return decode(storedAnswer);
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    public void put(String key, Object answer) {
+        Optional<String> encodedAnswer = encode(answer);
+        if (encodedAnswer.isEmpty()) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+
+            Path temporaryFile = Files.createTempFile(directory, key, ".tmp");
+            Files.writeString(temporaryFile, encodedAnswer.get(), UTF_8);
+            Files.move(temporaryFile, answerFile(key), ATOMIC_MOVE, REPLACE_EXISTING);
+
+            evictLeastRecentlyUsed();
+        } catch (IOException e) {
+            System.err.println("Cannot store answer in <" + directory + ">: " + e);
+        }
+    }
+
+    private static Optional<String> encode(Object answer) {
+        if (answer instanceof Integer) {
+            return Optional.of(INTEGER + '\n' + answer);
+        } else if (answer instanceof Long) {
+            return Optional.of(LONG + '\n' + answer);
+        } else if (answer instanceof String) {
+            return Optional.of(STRING + '\n' + answer);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Object> decode(String storedAnswer) {
+        int endOfType = storedAnswer.indexOf('\n');
+        if (endOfType < 0) {
+            return Optional.empty();
+        }
+
+        String type = storedAnswer.substring(0, endOfType);
+        String value = storedAnswer.substring(endOfType + 1);
+        if (INTEGER.equals(type)) {
+            return Optional.of(Integer.valueOf(value));
+        } else if (LONG.equals(type)) {
+            return Optional.of(Long.valueOf(value));
+        } else if (STRING.equals(type)) {
+            return Optional.of(value);
+        }
+        return Optional.empty();
+    }
+
+    private void evictLeastRecentlyUsed() throws IOException {
+        List<Path> answers;
+        try (Stream<Path> files = Files.list(directory)) {
+            answers = files
+                    .filter(file -> file.getFileName().toString().endsWith(ANSWER_EXTENSION))
+                    .sorted(comparing(AnswerStore::lastModified))
+                    .collect(toList());
+        }
+
+        for (int i = 0; i < answers.size() - maximumSize; i++) {
+            Files.deleteIfExists(answers.get(i));
+        }
+    }
+
+    private Path answerFile(String key) {
+        return directory.resolve(key + ANSWER_EXTENSION);
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0L);
+        }
+    }
+}
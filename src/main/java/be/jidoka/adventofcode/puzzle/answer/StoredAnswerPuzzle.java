@@ -0,0 +1,95 @@
+package be.jidoka.adventofcode.puzzle.answer;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
+import be.jidoka.adventofcode.puzzle.metrics.PuzzleMetrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+
+public class StoredAnswerPuzzle<T> implements Puzzle<T> {
+    private static final Map<Class<?>, byte[]> PUZZLE_VERSIONS = new ConcurrentHashMap<>();
+
+    private final PuzzleWithInputFile<T> puzzle;
+    private final Puzzle<T> solver;
+    private final AnswerStore answers;
+
+    public StoredAnswerPuzzle(PuzzleWithInputFile<T> puzzle, Puzzle<T> solver, AnswerStore answers) {
+        this.puzzle = puzzle;
+        this.solver = solver;
+        this.answers = answers;
+    }
+
+    @Override
+    public T solvePartOne() {
+        return answer("one", solver::solvePartOne);
+    }
+
+    @Override
+    public T solvePartTwo() {
+        return answer("two", solver::solvePartTwo);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T answer(String part, Supplier<T> solver) {
+        String key = keyFor(part);
+
+        Optional<Object> storedAnswer = answers.get(key);
+        PuzzleMetrics.recordStoredAnswer(puzzle.getClass(), part, storedAnswer.isPresent());
+        if (storedAnswer.isPresent()) {
+            return (T) storedAnswer.get();
+        }
+
+        T answer = solver.get();
+        answers.put(key, answer);
+        return answer;
+    }
+
+    private String keyFor(String part) {
+        MessageDigest digest = sha256();
+        digest.update(puzzle.getClass().getName().getBytes(UTF_8));
+        digest.update(PUZZLE_VERSIONS.computeIfAbsent(puzzle.getClass(), StoredAnswerPuzzle::versionOf));
+        digest.update(part.getBytes(UTF_8));
+        puzzle.digestPuzzleInput(digest);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static byte[] versionOf(Class<?> puzzleClass) {
+        MessageDigest digest = sha256();
+        Arrays.stream(puzzleClass.getNestMembers())
+                .sorted(comparing(Class::getName))
+                .forEach(member -> digest.update(bytecodeOf(member)));
+        Optional.ofNullable(puzzleClass.getPackage().getImplementationVersion())
+                .ifPresent(version -> digest.update(version.getBytes(UTF_8)));
+        return digest.digest();
+    }
+
+    private static byte[] bytecodeOf(Class<?> type) {
+        String resource = type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class";
+        try (InputStream bytecode = type.getResourceAsStream(resource)) {
+            return bytecode == null ? new byte[0] : bytecode.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read bytecode of <" + type.getName() + ">!", e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Expected SHA-256 to be available!", e);
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package be.jidoka.adventofcode.puzzle.day;
 
 import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
+import be.jidoka.adventofcode.puzzle.SolveControl;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
 
-import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
 
 public class PuzzleDayEleven extends PuzzleWithInputFile<String> {
 
+    public PuzzleDayEleven() {
+        this("puzzleDayEleven.txt");
+    }
+
+    public PuzzleDayEleven(String fileName) {
+        super(fileName);
+    }
+
     @Override
     public String solvePartOne() {
         return createGrid()
@@ -26,24 +33,25 @@ public class PuzzleDayEleven extends PuzzleWithInputFile<String> {
     }
 
     private Grid createGrid() {
-        return streamPuzzleInput("puzzleDayEleven.txt")
+        return new Grid(readGridSerialNumber());
+    }
+
+    private int readGridSerialNumber() {
+        return parsePuzzleInput(lines -> lines
                 .mapToInt(Integer::valueOf)
                 .findFirst()
-                .stream()
-                .mapToObj(Grid::new)
-                .findFirst()
-                .get();
+                .getAsInt());
     }
 
     private static class Grid {
-        private static final Integer GRID_SIZE = 300;
+        private static final int GRID_SIZE = 300;
 
-        private final Integer gridSerialNumber;
-        private final Integer[][] representation;
+        private final int gridSerialNumber;
+        private final int[][] representation;
 
-        private Grid(Integer gridSerialNumber) {
+        private Grid(int gridSerialNumber) {
             this.gridSerialNumber = gridSerialNumber;
-            this.representation = new Integer[GRID_SIZE][GRID_SIZE];
+            this.representation = new int[GRID_SIZE][GRID_SIZE];
         }
 
         public Grid calculatePowerLevels() {
@@ -62,58 +70,59 @@ public class PuzzleDayEleven extends PuzzleWithInputFile<String> {
         }
 
         public String startCellOfARandomSizedSquareWithMostPower() {
+            Runnable checkpoint = SolveControl.checkpointForCurrentSolve();
             return IntStream.rangeClosed(1, GRID_SIZE)
                     .parallel()
-                    .boxed()
-                    .map(this::calculateMaximumPowerSourceForSquareSize)
+                    .peek(squareSize -> checkpoint.run())
+                    .mapToObj(this::calculateMaximumPowerSourceForSquareSize)
                     .filter(Optional::isPresent)
                     .map(Optional::get)
-                    .max(comparing(PowerSource::getPower))
+                    .max(comparingInt(PowerSource::getPower))
                     .map(PowerSource::printCoordinatesWithSize)
                     .get();
         }
 
-        private Optional<PowerSource> calculateMaximumPowerSourceForSquareSize(Integer squareSize) {
-            List<PowerSource> powerSources = new ArrayList<>();
+        private Optional<PowerSource> calculateMaximumPowerSourceForSquareSize(int squareSize) {
+            PowerSource maximumPowerSource = null;
             for (int x = 0; x < GRID_SIZE - squareSize; x++) {
                 for (int y = 0; y < GRID_SIZE - squareSize; y++) {
-                    powerSources.add(new PowerSource(x, y, calculatePower(x, y, squareSize), squareSize));
+                    int power = calculatePower(x, y, squareSize);
+                    if (maximumPowerSource == null || power > maximumPowerSource.getPower()) {
+                        maximumPowerSource = new PowerSource(x, y, power, squareSize);
+                    }
                 }
             }
-            return powerSources.stream().max(comparing(PowerSource::getPower));
+            return Optional.ofNullable(maximumPowerSource);
         }
 
-        private Integer calculatePowerLevel(Integer xCoordinate, Integer yCoordinate) {
-            Integer rackID = calculateRackID(xCoordinate);
-            Integer startPowerLevel = calculateStartPowerLevel(rackID, yCoordinate);
-            Integer hundredsDigit = extractHundredsDigitFrom((startPowerLevel + gridSerialNumber) * rackID);
+        private int calculatePowerLevel(int xCoordinate, int yCoordinate) {
+            int rackID = calculateRackID(xCoordinate);
+            int startPowerLevel = calculateStartPowerLevel(rackID, yCoordinate);
+            int hundredsDigit = extractHundredsDigitFrom((startPowerLevel + gridSerialNumber) * rackID);
             return hundredsDigit - 5;
         }
 
-        private Integer calculateRackID(Integer xCoordinate) {
+        private int calculateRackID(int xCoordinate) {
             return xCoordinate + 10;
         }
 
-        private Integer calculateStartPowerLevel(Integer rackID, Integer yCoordinate) {
+        private int calculateStartPowerLevel(int rackID, int yCoordinate) {
             return rackID * yCoordinate;
         }
 
-        private Integer extractHundredsDigitFrom(Integer number) {
+        private int extractHundredsDigitFrom(int number) {
             if (number > 100) {
-                char[] digits = String.valueOf(number).toCharArray();
-                return digits[digits.length - 3] - '0';
+                return (number / 100) % 10;
             }
             return 0;
         }
 
-        private Integer calculatePower(Integer xCoordinate, Integer yCoordinate, Integer squareSize) {
-            Integer currentXCoordinate = null;
-            Integer currentYCoordinate = null;
-            Integer power = 0;
+        private int calculatePower(int xCoordinate, int yCoordinate, int squareSize) {
+            int power = 0;
             for (int x = 0; x < squareSize; x++) {
-                currentXCoordinate = xCoordinate + x;
+                int currentXCoordinate = xCoordinate + x;
                 for (int y = 0; y < squareSize; y++) {
-                    currentYCoordinate = yCoordinate + y;
+                    int currentYCoordinate = yCoordinate + y;
 
                     if (isWithinBounds(currentXCoordinate, currentYCoordinate)) {
                         power += representation[currentXCoordinate][currentYCoordinate];
@@ -123,26 +132,26 @@ public class PuzzleDayEleven extends PuzzleWithInputFile<String> {
             return power;
         }
 
-        private boolean isWithinBounds(Integer xCoordinate, Integer yCoordinate) {
+        private boolean isWithinBounds(int xCoordinate, int yCoordinate) {
             return xCoordinate < GRID_SIZE && yCoordinate < GRID_SIZE;
         }
     }
 
     private static class PowerSource {
 
-        private final Integer xCoordinate;
-        private final Integer yCoordinate;
-        private final Integer power;
-        private final Integer squareSize;
+        private final int xCoordinate;
+        private final int yCoordinate;
+        private final int power;
+        private final int squareSize;
 
-        private PowerSource(Integer xCoordinate, Integer yCoordinate, Integer power, Integer squareSize) {
+        private PowerSource(int xCoordinate, int yCoordinate, int power, int squareSize) {
             this.xCoordinate = xCoordinate;
             this.yCoordinate = yCoordinate;
             this.power = power;
             this.squareSize = squareSize;
         }
 
-        public Integer getPower() {
+        public int getPower() {
             return power;
         }
 
@@ -0,0 +1,22 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+
+public class PuzzleDayElevenProvider implements PuzzleProvider {
+
+    @Override
+    public int getDay() {
+        return 11;
+    }
+
+    @Override
+    public Puzzle<?> create() {
+        return new PuzzleDayEleven();
+    }
+
+    @Override
+    public Puzzle<?> create(String fileName) {
+        return new PuzzleDayEleven(fileName);
+    }
+}
@@ -1,6 +1,8 @@
 package be.jidoka.adventofcode.puzzle.day;
 
+import be.jidoka.adventofcode.puzzle.IntPuzzle;
 import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
+import be.jidoka.adventofcode.puzzle.SolveControl;
 
 import java.util.Arrays;
 import java.util.List;
@@ -8,27 +10,35 @@ import java.util.List;
 import static java.util.Comparator.comparingInt;
 import static java.util.stream.Collectors.toList;
 
-public class PuzzleDayFive extends PuzzleWithInputFile<Integer> {
+public class PuzzleDayFive extends PuzzleWithInputFile<Integer> implements IntPuzzle {
+
+    public PuzzleDayFive() {
+        this("puzzleDayFive.txt");
+    }
+
+    public PuzzleDayFive(String fileName) {
+        super(fileName);
+    }
 
     @Override
-    public Integer solvePartOne() {
+    public int solvePartOneAsInt() {
         return readPolymer()
                 .removeReactions()
                 .length();
     }
 
     @Override
-    public Integer solvePartTwo() {
+    public int solvePartTwoAsInt() {
         return readPolymer()
                 .getShortestFormPossible()
                 .length();
     }
 
     private Polymer readPolymer() {
-        return streamPuzzleInput("puzzleDayFive.txt")
+        return parsePuzzleInput(lines -> lines
                 .map(Polymer::new)
                 .findFirst()
-                .orElseThrow(IllegalArgumentException::new);
+                .orElseThrow(IllegalArgumentException::new));
     }
 
     private static class Polymer {
@@ -54,6 +64,7 @@ public class PuzzleDayFive extends PuzzleWithInputFile<Integer> {
         private String removeAllReactions(String polymer) {
             String polymerWithoutReactions = removeFirstReaction(polymer);
             while (true) {
+                SolveControl.checkpoint();
                 String currentPolymerWithoutReactions = removeFirstReaction(polymerWithoutReactions);
                 if (polymerWithoutReactions.equals(currentPolymerWithoutReactions)) {
                     break;
@@ -0,0 +1,22 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+
+public class PuzzleDayFiveProvider implements PuzzleProvider {
+
+    @Override
+    public int getDay() {
+        return 5;
+    }
+
+    @Override
+    public Puzzle<?> create() {
+        return new PuzzleDayFive();
+    }
+
+    @Override
+    public Puzzle<?> create(String fileName) {
+        return new PuzzleDayFive(fileName);
+    }
+}
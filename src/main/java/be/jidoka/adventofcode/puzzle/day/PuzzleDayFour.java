@@ -1,40 +1,47 @@
 package be.jidoka.adventofcode.puzzle.day;
 
+import be.jidoka.adventofcode.puzzle.InputScanner;
+import be.jidoka.adventofcode.puzzle.IntPuzzle;
 import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
+import static java.util.Comparator.comparingLong;
 
-public class PuzzleDayFour extends PuzzleWithInputFile<Integer> {
+public class PuzzleDayFour extends PuzzleWithInputFile<Integer> implements IntPuzzle {
+
+    public PuzzleDayFour() {
+        this("puzzleDayFour.txt");
+    }
+
+    public PuzzleDayFour(String fileName) {
+        super(fileName);
+    }
 
     @Override
-    public Integer solvePartOne() {
+    public int solvePartOneAsInt() {
         return getGuards()
                 .stream()
-                .sorted(comparing(Guard::getMinutesAsleep).reversed())
-                .peek(guard -> System.out.println("[" + guard.getMinutesAsleep() + "] " + guard.getId() + " * " + guard.getMostAsleepInMinute() + " = " + (guard.getId() * guard.getMostAsleepInMinute())))
+                .sorted(comparingLong(Guard::getMinutesAsleep).reversed())
                 .mapToInt(guard -> guard.getId() * guard.getMostAsleepInMinute())
                 .findFirst()
                 .getAsInt();
     }
 
     @Override
-    public Integer solvePartTwo() {
+    public int solvePartTwoAsInt() {
         return getGuards()
                 .stream()
-                .sorted(comparing(Guard::getMaximumTimesAsleepInAMinute).reversed())
-                .peek(guard -> System.out.println("[" + guard.getMaximumTimesAsleepInAMinute() + "] " + guard.getId() + " * " + guard.getMostAsleepInMinute() + " = " + (guard.getId() * guard.getMostAsleepInMinute())))
+                .sorted(comparingInt(Guard::getMaximumTimesAsleepInAMinute).reversed())
                 .mapToInt(guard -> guard.getId() * guard.getMostAsleepInMinute())
                 .findFirst()
                 .getAsInt();
@@ -58,33 +65,22 @@ public class PuzzleDayFour extends PuzzleWithInputFile<Integer> {
     }
 
     private List<Event> getEvents() {
-        return readInput()
+        return scanPuzzleInput(Event::new, events -> events
                 .sorted(comparing(o -> o.dateTime))
-                .collect(Collectors.toList());
-    }
-
-    private Stream<Event> readInput() {
-        return streamPuzzleInput("puzzleDayFour.txt").map(Event::new);
+                .collect(Collectors.toUnmodifiableList()));
     }
 
     private static class Event {
 
-        private final String raw;
         private final LocalDateTime dateTime;
         private final EventType type;
         private final Integer guardId;
 
-        public Event(String eventLog) {
-            Pattern eventLogPattern = Pattern.compile("\\[(\\d{4}-\\d{2}-\\d{2}[ ]\\d{2}:\\d{2})\\][ ]([a-zA-Z0-9 #]*)");
-            Matcher eventLogMatcher = eventLogPattern.matcher(eventLog);
-            if (!eventLogMatcher.matches()) {
-                throw new IllegalStateException("Expected a valid Event Log!");
-            }
-
-            this.raw = eventLog;
-            this.dateTime = dateTimeFor(eventLogMatcher.group(1));
-            this.type = eventTypeFor(eventLogMatcher.group(2));
-            this.guardId = guardIdFor(eventLogMatcher.group(2));
+        public Event(InputScanner eventLog) {
+            this.dateTime = dateTimeFor(eventLog);
+            eventLog.expect(' ');
+            this.type = eventTypeFor(eventLog);
+            this.guardId = isStartOfShift() ? guardIdFor(eventLog) : null;
         }
 
         public LocalDateTime getDateTime() {
@@ -107,34 +103,41 @@ public class PuzzleDayFour extends PuzzleWithInputFile<Integer> {
             return type == EventType.WAKES_UP;
         }
 
-        private LocalDateTime dateTimeFor(String dateTime) {
-            return LocalDateTime.parse(dateTime, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
-        }
-
-        private EventType eventTypeFor(String description) {
-            switch (description) {
-                case "falls asleep":
-                    return EventType.ASLEEP;
-                case "wakes up":
-                    return EventType.WAKES_UP;
-                default:
-                    return EventType.START_SHIFT;
+        private LocalDateTime dateTimeFor(InputScanner eventLog) {
+            eventLog.expect('[');
+            int year = eventLog.nextFixedWidthInt(4);
+            eventLog.expect('-');
+            int month = eventLog.nextFixedWidthInt(2);
+            eventLog.expect('-');
+            int dayOfMonth = eventLog.nextFixedWidthInt(2);
+            eventLog.expect(' ');
+            int hour = eventLog.nextFixedWidthInt(2);
+            eventLog.expect(':');
+            int minute = eventLog.nextFixedWidthInt(2);
+            eventLog.expect(']');
+            return LocalDateTime.of(year, month, dayOfMonth, hour, minute);
+        }
+
+        private EventType eventTypeFor(InputScanner eventLog) {
+            if (eventLog.skip("falls asleep")) {
+                return EventType.ASLEEP;
+            } else if (eventLog.skip("wakes up")) {
+                return EventType.WAKES_UP;
+            } else if (eventLog.skip("Guard #")) {
+                return EventType.START_SHIFT;
             }
+            throw new IllegalStateException("Expected a valid Event Log!");
         }
 
-        private Integer guardIdFor(String description) {
-            Pattern guardIdPattern = Pattern.compile("Guard #(\\d*) begins shift");
-            Matcher guardIdMatcher = guardIdPattern.matcher(description);
-
-            if (guardIdMatcher.matches()) {
-                return Integer.valueOf(guardIdMatcher.group(1));
-            }
-            return null;
+        private Integer guardIdFor(InputScanner eventLog) {
+            int guardId = eventLog.nextInt();
+            eventLog.expect(" begins shift");
+            return guardId;
         }
 
         @Override
         public String toString() {
-            return raw;
+            return "[" + dateTime + "] " + type;
         }
 
         private enum EventType {
@@ -143,11 +146,12 @@ public class PuzzleDayFour extends PuzzleWithInputFile<Integer> {
     }
 
     private static class Guard {
+        private static final int MINUTES_IN_AN_HOUR = 60;
 
-        private final Integer id;
+        private final int id;
         private final List<Event> events;
 
-        public Guard(Integer id) {
+        public Guard(int id) {
             this.id = id;
             this.events = new ArrayList<>();
         }
@@ -156,12 +160,12 @@ public class PuzzleDayFour extends PuzzleWithInputFile<Integer> {
             events.add(event);
         }
 
-        public Integer getId() {
+        public int getId() {
             return id;
         }
 
-        public Long getMinutesAsleep() {
-            Long minutesAsleep = 0L;
+        public long getMinutesAsleep() {
+            long minutesAsleep = 0L;
 
             LocalDateTime sleptAt = null;
             for (Event event : events) {
@@ -176,26 +180,26 @@ public class PuzzleDayFour extends PuzzleWithInputFile<Integer> {
             return minutesAsleep;
         }
 
-        public Integer getMaximumTimesAsleepInAMinute() {
-            return timesAsleepInMinutes()
-                    .values()
-                    .stream()
-                    .mapToInt(Integer::intValue)
+        public int getMaximumTimesAsleepInAMinute() {
+            return Arrays.stream(timesAsleepInMinutes())
                     .max()
                     .orElse(0);
         }
 
-        public Integer getMostAsleepInMinute() {
-            return timesAsleepInMinutes()
-                    .entrySet()
-                    .stream()
-                    .max(comparing(Map.Entry::getValue))
-                    .map(Map.Entry::getKey)
-                    .orElse(0);
+        public int getMostAsleepInMinute() {
+            int[] asleepInMinute = timesAsleepInMinutes();
+
+            int mostAsleepInMinute = 0;
+            for (int minute = 1; minute < asleepInMinute.length; minute++) {
+                if (asleepInMinute[minute] > asleepInMinute[mostAsleepInMinute]) {
+                    mostAsleepInMinute = minute;
+                }
+            }
+            return mostAsleepInMinute;
         }
 
-        private Map<Integer, Integer> timesAsleepInMinutes() {
-            Map<Integer, Integer> asleepInMinute = new HashMap<>();
+        private int[] timesAsleepInMinutes() {
+            int[] asleepInMinute = new int[MINUTES_IN_AN_HOUR];
 
             LocalDateTime sleptAt = null;
             for (Event event : events) {
@@ -209,14 +213,10 @@ public class PuzzleDayFour extends PuzzleWithInputFile<Integer> {
             return asleepInMinute;
         }
 
-        private void sleepsBetween(LocalDateTime sleptAt, LocalDateTime wakesAt, Map<Integer, Integer> asleepInMinute) {
+        private void sleepsBetween(LocalDateTime sleptAt, LocalDateTime wakesAt, int[] asleepInMinute) {
             LocalDateTime currentDateTime = sleptAt;
             while (currentDateTime.isBefore(wakesAt)) {
-                if (!asleepInMinute.containsKey(currentDateTime.getMinute())) {
-                    asleepInMinute.put(currentDateTime.getMinute(), 1);
-                } else {
-                    asleepInMinute.put(currentDateTime.getMinute(), asleepInMinute.get(currentDateTime.getMinute()) + 1);
-                }
+                asleepInMinute[currentDateTime.getMinute()]++;
                 currentDateTime = currentDateTime.plusMinutes(1);
             }
         }
@@ -0,0 +1,22 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+
+public class PuzzleDayFourProvider implements PuzzleProvider {
+
+    @Override
+    public int getDay() {
+        return 4;
+    }
+
+    @Override
+    public Puzzle<?> create() {
+        return new PuzzleDayFour();
+    }
+
+    @Override
+    public Puzzle<?> create(String fileName) {
+        return new PuzzleDayFour(fileName);
+    }
+}
@@ -1,51 +1,186 @@
 package be.jidoka.adventofcode.puzzle.day;
 
+import be.jidoka.adventofcode.puzzle.IncrementalPuzzle;
+import be.jidoka.adventofcode.puzzle.IncrementalSolver;
+import be.jidoka.adventofcode.puzzle.InputScanner;
+import be.jidoka.adventofcode.puzzle.IntPuzzle;
+import be.jidoka.adventofcode.puzzle.MappedInput;
 import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.IntStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
 
-import static java.util.stream.Collectors.toList;
+public class PuzzleDayOne extends PuzzleWithInputFile<Integer> implements IntPuzzle, IncrementalPuzzle<Integer> {
+    private static final long PARALLEL_SUM_THRESHOLD = 64L * 1024 * 1024;
+    private static final long CHUNK_SIZE = 8L * 1024 * 1024;
 
-public class PuzzleDayOne extends PuzzleWithInputFile<Integer> {
+    public PuzzleDayOne() {
+        this("puzzleDayOne.txt");
+    }
+
+    public PuzzleDayOne(String fileName) {
+        super(fileName);
+    }
 
     @Override
-    public Integer solvePartOne() {
-        return readInput().sum();
+    public int solvePartOneAsInt() {
+        MappedInput input = mapPuzzleInput();
+        if (input.size() < PARALLEL_SUM_THRESHOLD) {
+            return Arrays.stream(readFrequencies()).sum();
+        }
+
+        return (int) input.split(CHUNK_SIZE)
+                .parallelStream()
+                .mapToLong(chunk -> chunk.sumRecords(InputScanner::nextInt))
+                .sum();
     }
 
     @Override
-    public Integer solvePartTwo() {
-        List<Integer> frequencies = readInput().boxed().collect(toList());
+    public int solvePartTwoAsInt() {
+        int[] frequencies = readFrequencies();
+        if (frequencies.length == 0) {
+            throw new IllegalStateException("Cannot find a repeated frequency without frequency changes!");
+        }
+
+        int[] calibratedFrequencies = new int[frequencies.length];
+        FrequencyIndex seenFrequencies = new FrequencyIndex(frequencies.length + 1);
+        int calibratedFrequency = 0;
+        for (int i = 0; i < frequencies.length; i++) {
+            if (!seenFrequencies.add(calibratedFrequency, i)) {
+                return calibratedFrequency;
+            }
+            calibratedFrequencies[i] = calibratedFrequency;
+            calibratedFrequency += frequencies[i];
+        }
+        if (seenFrequencies.contains(calibratedFrequency)) {
+            return calibratedFrequency;
+        }
+
+        return findFirstRepeatAfterFirstPass(calibratedFrequencies, seenFrequencies, calibratedFrequency);
+    }
 
-        Map<Integer, Integer> seenFrequencies = new HashMap<>();
-        seenFrequencies.put(0, 1);
+    private int findFirstRepeatAfterFirstPass(int[] calibratedFrequencies, FrequencyIndex seenFrequencies, int drift) {
+        long absoluteDrift = Math.abs((long) drift);
 
-        Integer calibratedFrequency = calibrate(frequencies, seenFrequencies, 0);
-        while (seenFrequencies.get(calibratedFrequency) == 1) {
-            calibratedFrequency = calibrate(frequencies, seenFrequencies, calibratedFrequency);
+        long[] frequenciesByResidue = new long[calibratedFrequencies.length];
+        for (int i = 0; i < calibratedFrequencies.length; i++) {
+            long residue = Math.floorMod((long) calibratedFrequencies[i], absoluteDrift);
+            frequenciesByResidue[i] = residue << Integer.SIZE | ((long) calibratedFrequencies[i] - Integer.MIN_VALUE);
         }
+        Arrays.sort(frequenciesByResidue);
 
-        return calibratedFrequency;
+        long firstRepeatedAt = Long.MAX_VALUE;
+        int firstRepeatedFrequency = 0;
+        for (int i = 1; i < frequenciesByResidue.length; i++) {
+            if (frequenciesByResidue[i - 1] >>> Integer.SIZE != frequenciesByResidue[i] >>> Integer.SIZE) {
+                continue;
+            }
+
+            int lower = frequencyOf(frequenciesByResidue[i - 1]);
+            int upper = frequencyOf(frequenciesByResidue[i]);
+            int source = drift > 0 ? lower : upper;
+            int target = drift > 0 ? upper : lower;
+
+            long passes = ((long) upper - lower) / absoluteDrift;
+            long repeatedAt = passes * calibratedFrequencies.length + seenFrequencies.indexOf(source);
+            if (repeatedAt < firstRepeatedAt) {
+                firstRepeatedAt = repeatedAt;
+                firstRepeatedFrequency = target;
+            }
+        }
+
+        if (firstRepeatedAt == Long.MAX_VALUE) {
+            throw new IllegalStateException("Cannot find a repeated frequency, the calibration drifts by <" + drift + "> forever!");
+        }
+        return firstRepeatedFrequency;
+    }
+
+    private static int frequencyOf(long frequencyByResidue) {
+        return (int) ((frequencyByResidue & 0xFFFFFFFFL) + Integer.MIN_VALUE);
+    }
+
+    @Override
+    public IncrementalSolver<Integer> solveIncrementally() {
+        return new IncrementalCalibration();
     }
 
-    private IntStream readInput() {
-        return streamPuzzleInput("puzzleDayOne.txt").mapToInt(Integer::valueOf);
+    private int[] readFrequencies() {
+        return parsePuzzleInput(lines -> lines.mapToInt(Integer::parseInt).toArray());
     }
 
-    private Integer calibrate(List<Integer> frequencies, Map<Integer, Integer> seenFrequencies, Integer startFrequency) {
-        Integer calibratedFrequency = startFrequency;
-        for (Integer frequency : frequencies) {
-            calibratedFrequency += frequency;
-            if (!seenFrequencies.containsKey(calibratedFrequency)) {
-                seenFrequencies.put(calibratedFrequency, 1);
-            } else {
-                seenFrequencies.put(calibratedFrequency, seenFrequencies.get(calibratedFrequency) + 1);
-                break;
+    private static class FrequencyIndex {
+        private static final int NOT_FOUND = -1;
+
+        private final int[] frequencies;
+        private final int[] indices;
+        private final int mask;
+        private final int shift;
+
+        private FrequencyIndex(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+            this.frequencies = new int[capacity];
+            this.indices = new int[capacity];
+            this.mask = capacity - 1;
+            this.shift = Integer.numberOfLeadingZeros(mask);
+            Arrays.fill(indices, NOT_FOUND);
+        }
+
+        private boolean add(int frequency, int index) {
+            int slot = slotOf(frequency);
+            if (indices[slot] != NOT_FOUND) {
+                return false;
+            }
+            frequencies[slot] = frequency;
+            indices[slot] = index;
+            return true;
+        }
+
+        private boolean contains(int frequency) {
+            return indexOf(frequency) != NOT_FOUND;
+        }
+
+        private int indexOf(int frequency) {
+            return indices[slotOf(frequency)];
+        }
+
+        private int slotOf(int frequency) {
+            int slot = (frequency * 0x9E3779B9) >>> shift;
+            while (indices[slot] != NOT_FOUND && frequencies[slot] != frequency) {
+                slot = (slot + 1) & mask;
             }
+            return slot;
+        }
+    }
+
+    private static class IncrementalCalibration implements IncrementalSolver<Integer> {
+
+        private final Set<Integer> seenFrequencies;
+        private int calibratedFrequency;
+        private Integer firstRepeatedFrequency;
+
+        private IncrementalCalibration() {
+            this.seenFrequencies = new HashSet<>();
+            this.seenFrequencies.add(0);
+        }
+
+        @Override
+        public void accept(String frequency) {
+            calibratedFrequency += Integer.parseInt(frequency);
+            if (!seenFrequencies.add(calibratedFrequency) && firstRepeatedFrequency == null) {
+                firstRepeatedFrequency = calibratedFrequency;
+            }
+        }
+
+        @Override
+        public Optional<Integer> getPartOne() {
+            return Optional.of(calibratedFrequency);
+        }
+
+        @Override
+        public Optional<Integer> getPartTwo() {
+            return Optional.ofNullable(firstRepeatedFrequency);
         }
-        return calibratedFrequency;
     }
 }
@@ -0,0 +1,22 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+
+public class PuzzleDayOneProvider implements PuzzleProvider {
+
+    @Override
+    public int getDay() {
+        return 1;
+    }
+
+    @Override
+    public Puzzle<?> create() {
+        return new PuzzleDayOne();
+    }
+
+    @Override
+    public Puzzle<?> create(String fileName) {
+        return new PuzzleDayOne(fileName);
+    }
+}
@@ -1,110 +1,93 @@
 package be.jidoka.adventofcode.puzzle.day;
 
+import be.jidoka.adventofcode.puzzle.IntPuzzle;
 import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 import static java.lang.Integer.MAX_VALUE;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
-public class PuzzleDaySix extends PuzzleWithInputFile<Integer> {
+public class PuzzleDaySix extends PuzzleWithInputFile<Integer> implements IntPuzzle {
+
+    public PuzzleDaySix() {
+        this("puzzleDaySix.txt");
+    }
+
+    public PuzzleDaySix(String fileName) {
+        super(fileName);
+    }
 
     @Override
-    public Integer solvePartOne() {
+    public int solvePartOneAsInt() {
         return getGrid().getLargestRegion();
     }
 
     @Override
-    public Integer solvePartTwo() {
+    public int solvePartTwoAsInt() {
         return getGrid().getAmountOfRegionsWithinDistanceOf(10000);
     }
 
     private Grid getGrid() {
-        return new Grid(readPoints().collect(toList()));
+        return new Grid(readPoints());
     }
 
-    private Stream<Point> readPoints() {
-        return streamPuzzleInput("puzzleDaySix.txt")
-                .map(Point::new);
+    private List<Point> readPoints() {
+        return parsePuzzleInput(lines -> lines
+                .map(Point::new)
+                .collect(toUnmodifiableList()));
     }
 
     private static class Point {
 
-        private final Integer id;
-        private final Integer x;
-        private final Integer y;
+        private final int x;
+        private final int y;
 
         public Point(String coordinate) {
             String[] coordinateSplit = coordinate.split(", ");
 
-            this.id = PointIDGenerator.next();
-            this.x = Integer.valueOf(coordinateSplit[0]);
-            this.y = Integer.valueOf(coordinateSplit[1]);
+            this.x = Integer.parseInt(coordinateSplit[0]);
+            this.y = Integer.parseInt(coordinateSplit[1]);
         }
 
-        public Point(Integer x, Integer y) {
-            this.id = PointIDGenerator.next();
-            this.x = x;
-            this.y = y;
-        }
-
-        public Integer getId() {
-            return id;
-        }
-
-        public Integer getX() {
+        public int getX() {
             return x;
         }
 
-        public Integer getY() {
+        public int getY() {
             return y;
         }
 
-        public Integer getManhattanDistance(Point other) {
-            return Math.abs(getX() - other.getX()) + Math.abs(getY() - other.getY());
-        }
-    }
-
-    private static class PointIDGenerator {
-        private static final AtomicInteger SEQUENCE = new AtomicInteger(0);
-
-        public static Integer next() {
-            return SEQUENCE.getAndIncrement();
+        public int getManhattanDistance(int otherX, int otherY) {
+            return Math.abs(x - otherX) + Math.abs(y - otherY);
         }
     }
 
     private static class Grid {
+        private static final int NO_CLOSEST_POINT = -1;
 
-        private final List<Point> points;
+        private final Point[] points;
 
         public Grid(List<Point> points) {
-            this.points = points;
+            this.points = points.toArray(new Point[0]);
         }
 
-        public Integer getLargestRegion() {
+        public int getLargestRegion() {
             return createRegions()
-                    .values()
-                    .stream()
-                    .mapToInt(Integer::valueOf)
                     .max()
                     .getAsInt();
         }
 
-        public Integer getAmountOfRegionsWithinDistanceOf(Integer allowedDistance) {
-            Integer gridLengthX = getMaximumX() + 1;
-            Integer gridLengthY = getMaximumY() + 1;
+        public int getAmountOfRegionsWithinDistanceOf(int allowedDistance) {
+            int gridLengthX = getMaximumX() + 1;
+            int gridLengthY = getMaximumY() + 1;
 
-            Integer regionsWithinDistanceOf = 0;
+            int regionsWithinDistanceOf = 0;
             for (int x = 0; x < gridLengthX; x++) {
                 for (int y = 0; y < gridLengthY; y++) {
-                    if (getTotalDistanceTo(new Point(x, y)) < allowedDistance) {
+                    if (getTotalDistanceTo(x, y) < allowedDistance) {
                         regionsWithinDistanceOf++;
                     }
                 }
@@ -112,83 +95,84 @@ public class PuzzleDaySix extends PuzzleWithInputFile<Integer> {
             return regionsWithinDistanceOf;
         }
 
-        private Map<Integer, Integer> createRegions() {
-            Integer gridLengthX = getMaximumX() + 1;
-            Integer gridLengthY = getMaximumY() + 1;
-            Integer[][] grid = new Integer[gridLengthX][gridLengthY];
+        private IntStream createRegions() {
+            int gridLengthX = getMaximumX() + 1;
+            int gridLengthY = getMaximumY() + 1;
+            int[][] grid = new int[gridLengthX][gridLengthY];
 
-            Map<Integer, Integer> regions = new HashMap<>();
+            int[] regions = new int[points.length];
             for (int x = 0; x < gridLengthX; x++) {
                 for (int y = 0; y < gridLengthY; y++) {
-                    Optional<Point> closestPoint = getPointClosestTo(new Point(x, y));
-
-                    if (closestPoint.isPresent()) {
-                        Integer closestPointId = closestPoint.get().getId();
+                    int closestPoint = getPointClosestTo(x, y);
 
-                        grid[x][y] = closestPointId;
-
-                        Integer regionSize = regions.getOrDefault(closestPointId, 0);
-                        regions.put(closestPointId, regionSize + 1);
+                    grid[x][y] = closestPoint;
+                    if (closestPoint != NO_CLOSEST_POINT) {
+                        regions[closestPoint]++;
                     }
                 }
             }
             return filterOutInfiniteRegions(regions, detectInfiniteRegions(grid, gridLengthX, gridLengthY));
         }
 
-        private Set<Integer> detectInfiniteRegions(Integer[][] grid, Integer gridLengthX, Integer gridLengthY) {
-            Set<Integer> infiniteRegions = new HashSet<>();
+        private boolean[] detectInfiniteRegions(int[][] grid, int gridLengthX, int gridLengthY) {
+            boolean[] infiniteRegions = new boolean[points.length];
 
             for (int x = 0; x < gridLengthX; x++) {
-                infiniteRegions.add(grid[x][0]);
-                infiniteRegions.add(grid[x][gridLengthY - 1]);
+                markInfiniteRegion(infiniteRegions, grid[x][0]);
+                markInfiniteRegion(infiniteRegions, grid[x][gridLengthY - 1]);
             }
 
             for (int y = 0; y < gridLengthY; y++) {
-                infiniteRegions.add(grid[0][y]);
-                infiniteRegions.add(grid[gridLengthX - 1][y]);
+                markInfiniteRegion(infiniteRegions, grid[0][y]);
+                markInfiniteRegion(infiniteRegions, grid[gridLengthX - 1][y]);
             }
 
             return infiniteRegions;
         }
 
-        private Map<Integer, Integer> filterOutInfiniteRegions(Map<Integer, Integer> regions, Set<Integer> infiniteRegions) {
-            for (Integer infiniteRegion : infiniteRegions) {
-                regions.remove(infiniteRegion);
+        private void markInfiniteRegion(boolean[] infiniteRegions, int region) {
+            if (region != NO_CLOSEST_POINT) {
+                infiniteRegions[region] = true;
             }
-            return regions;
         }
 
-        private Optional<Point> getPointClosestTo(Point other) {
-            Point closestPoint = null;
+        private IntStream filterOutInfiniteRegions(int[] regions, boolean[] infiniteRegions) {
+            return IntStream.range(0, regions.length)
+                    .filter(region -> regions[region] > 0 && !infiniteRegions[region])
+                    .map(region -> regions[region]);
+        }
+
+        private int getPointClosestTo(int x, int y) {
+            int closestPoint = NO_CLOSEST_POINT;
 
-            Integer shortestDistance = MAX_VALUE;
-            for (Point point : points) {
-                Integer distance = point.getManhattanDistance(other);
+            int shortestDistance = MAX_VALUE;
+            for (int i = 0; i < points.length; i++) {
+                int distance = points[i].getManhattanDistance(x, y);
                 if (distance < shortestDistance) {
                     shortestDistance = distance;
-                    closestPoint = point;
-                } else if (distance.equals(shortestDistance)) {
-                    closestPoint = null;
+                    closestPoint = i;
+                } else if (distance == shortestDistance) {
+                    closestPoint = NO_CLOSEST_POINT;
                 }
             }
 
-            return Optional.ofNullable(closestPoint);
+            return closestPoint;
         }
 
-        private Integer getTotalDistanceTo(Point other) {
-            Integer totalDistance = 0;
+        private int getTotalDistanceTo(int x, int y) {
+            int totalDistance = 0;
             for (Point point : points) {
-                totalDistance += point.getManhattanDistance(other);
+                totalDistance += point.getManhattanDistance(x, y);
             }
             return totalDistance;
         }
 
-        private Integer getMaximumX() {
-            return points.stream().mapToInt(Point::getX).max().getAsInt();
+        private int getMaximumX() {
+            return Arrays.stream(points).mapToInt(Point::getX).max().getAsInt();
         }
 
-        private Integer getMaximumY() {
-            return points.stream().mapToInt(Point::getY).max().getAsInt();
+        private int getMaximumY() {
+            return Arrays.stream(points).mapToInt(Point::getY).max().getAsInt();
         }
     }
 }
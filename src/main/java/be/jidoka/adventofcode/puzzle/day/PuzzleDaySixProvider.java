@@ -0,0 +1,22 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+
+public class PuzzleDaySixProvider implements PuzzleProvider {
+
+    @Override
+    public int getDay() {
+        return 6;
+    }
+
+    @Override
+    public Puzzle<?> create() {
+        return new PuzzleDaySix();
+    }
+
+    @Override
+    public Puzzle<?> create(String fileName) {
+        return new PuzzleDaySix(fileName);
+    }
+}
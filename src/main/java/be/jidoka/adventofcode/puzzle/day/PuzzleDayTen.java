@@ -1,16 +1,23 @@
 package be.jidoka.adventofcode.puzzle.day;
 
+import be.jidoka.adventofcode.puzzle.InputScanner;
 import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
+import be.jidoka.adventofcode.puzzle.SolveControl;
 
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 public class PuzzleDayTen extends PuzzleWithInputFile<String> {
 
+    public PuzzleDayTen() {
+        this("puzzleDayTen.txt");
+    }
+
+    public PuzzleDayTen(String fileName) {
+        super(fileName);
+    }
+
     @Override
     public String solvePartOne() {
         return createHeaven().getAlignedStarsRepresentation();
@@ -22,39 +29,43 @@ public class PuzzleDayTen extends PuzzleWithInputFile<String> {
     }
 
     private Heaven createHeaven() {
-        return new Heaven(readStars().collect(toList()));
+        return new Heaven(readStars());
     }
 
-    private Stream<Stars> readStars() {
-        return streamPuzzleInput("puzzleDayTen.txt")
-                .map(Stars::new);
+    private List<Stars> readStars() {
+        return scanPuzzleInput(Stars::new, stars -> stars.collect(toUnmodifiableList()));
     }
 
     private static class Stars {
 
-        private Coordinate coordinate;
+        private final Coordinate coordinate;
         private final Velocity velocity;
 
-        public Stars(String content) {
-            Pattern contentPattern = Pattern.compile("^position=<([ \\-\\d]*),([ \\-\\d]*)> velocity=<([ \\-\\d]*),([ \\-\\d]*)>$");
-            Matcher contentMatcher = contentPattern.matcher(content);
-            if (!contentMatcher.matches()) {
-                throw new IllegalStateException("Expected a valid content!");
-            }
-
-            this.coordinate = new Coordinate(Integer.valueOf(contentMatcher.group(1).trim()), Integer.valueOf(contentMatcher.group(2).trim()));
-            this.velocity = new Velocity(Integer.valueOf(contentMatcher.group(3).trim()), Integer.valueOf(contentMatcher.group(4).trim()));
+        public Stars(InputScanner content) {
+            content.expect("position=<");
+            this.coordinate = new Coordinate(nextInt(content), nextInt(content, ','));
+            content.expect("> velocity=<");
+            this.velocity = new Velocity(nextInt(content), nextInt(content, ','));
+            content.expect('>');
         }
 
         public Coordinate getCoordinate() {
             return coordinate;
         }
 
-        public void move() {
-            this.coordinate = new Coordinate(
-                    coordinate.getX() + velocity.getHorizontalMovementSpeed(),
-                    coordinate.getY() + velocity.getVerticalMovementSpeed()
-            );
+        public Velocity getVelocity() {
+            return velocity;
+        }
+
+        private static int nextInt(InputScanner content, char separator) {
+            content.skipSpaces();
+            content.expect(separator);
+            return nextInt(content);
+        }
+
+        private static int nextInt(InputScanner content) {
+            content.skipSpaces();
+            return content.nextInt();
         }
     }
 
@@ -98,15 +109,22 @@ public class PuzzleDayTen extends PuzzleWithInputFile<String> {
 
     private static class Heaven {
 
-        private final List<Stars> stars;
+        private final int[] xCoordinates;
+        private final int[] yCoordinates;
+        private final int[] horizontalMovementSpeeds;
+        private final int[] verticalMovementSpeeds;
 
         public Heaven(List<Stars> stars) {
-            this.stars = stars;
+            this.xCoordinates = stars.stream().mapToInt(star -> star.getCoordinate().getX()).toArray();
+            this.yCoordinates = stars.stream().mapToInt(star -> star.getCoordinate().getY()).toArray();
+            this.horizontalMovementSpeeds = stars.stream().mapToInt(star -> star.getVelocity().getHorizontalMovementSpeed()).toArray();
+            this.verticalMovementSpeeds = stars.stream().mapToInt(star -> star.getVelocity().getVerticalMovementSpeed()).toArray();
         }
 
         public String getAlignedStarsRepresentation() {
-            Integer alignedHeight = calculateHeight();
+            int alignedHeight = calculateHeight();
             while (alignedHeight > 10) {
+                SolveControl.checkpoint();
                 moveStars();
                 alignedHeight = calculateHeight();
             }
@@ -114,9 +132,10 @@ public class PuzzleDayTen extends PuzzleWithInputFile<String> {
         }
 
         public Integer getSecondsToAlignStars() {
-            Integer seconds = 0;
-            Integer alignedHeight = calculateHeight();
+            int seconds = 0;
+            int alignedHeight = calculateHeight();
             while (alignedHeight > 10) {
+                SolveControl.checkpoint();
                 moveStars();
                 alignedHeight = calculateHeight();
                 seconds++;
@@ -124,15 +143,15 @@ public class PuzzleDayTen extends PuzzleWithInputFile<String> {
             return seconds;
         }
 
-        private Integer calculateHeight() {
-            return determineMaximumYCoordinate() - determineMinimumYCoordinate();
+        private int calculateHeight() {
+            return maximum(yCoordinates) - minimum(yCoordinates);
         }
 
         private String presentStars() {
-            Integer minimumXCoordinate = determineMinimumXCoordinate();
-            Integer maximumXCoordinate = determineMaximumXCoordinate();
-            Integer minimumYCoordinate = determineMinimumYCoordinate();
-            Integer maximumYCoordinate = determineMaximumYCoordinate();
+            int minimumXCoordinate = minimum(xCoordinates);
+            int maximumXCoordinate = maximum(xCoordinates);
+            int minimumYCoordinate = minimum(yCoordinates);
+            int maximumYCoordinate = maximum(yCoordinates);
 
             StringBuilder humanReadableRepresentation = new StringBuilder();
             humanReadableRepresentation.append("\n");
@@ -149,45 +168,36 @@ public class PuzzleDayTen extends PuzzleWithInputFile<String> {
             return humanReadableRepresentation.toString();
         }
 
-        private boolean hasPointFor(Integer xCoordinate, Integer yCoordinate) {
-            return stars.stream()
-                    .anyMatch(stars -> stars.getCoordinate().getX().equals(xCoordinate) && stars.getCoordinate().getY().equals(yCoordinate));
-        }
-
-        private Integer determineMinimumXCoordinate() {
-            return stars.stream()
-                    .map(Stars::getCoordinate)
-                    .mapToInt(Coordinate::getX)
-                    .min()
-                    .orElse(0);
-        }
-
-        private Integer determineMinimumYCoordinate() {
-            return stars.stream()
-                    .map(Stars::getCoordinate)
-                    .mapToInt(Coordinate::getY)
-                    .min()
-                    .orElse(0);
+        private boolean hasPointFor(int xCoordinate, int yCoordinate) {
+            for (int star = 0; star < xCoordinates.length; star++) {
+                if (xCoordinates[star] == xCoordinate && yCoordinates[star] == yCoordinate) {
+                    return true;
+                }
+            }
+            return false;
         }
 
-        private Integer determineMaximumXCoordinate() {
-            return stars.stream()
-                    .map(Stars::getCoordinate)
-                    .mapToInt(Coordinate::getX)
-                    .max()
-                    .orElse(0);
+        private static int minimum(int[] coordinates) {
+            int minimum = coordinates.length == 0 ? 0 : Integer.MAX_VALUE;
+            for (int coordinate : coordinates) {
+                minimum = Math.min(minimum, coordinate);
+            }
+            return minimum;
         }
 
-        private Integer determineMaximumYCoordinate() {
-            return stars.stream()
-                    .map(Stars::getCoordinate)
-                    .mapToInt(Coordinate::getY)
-                    .max()
-                    .orElse(0);
+        private static int maximum(int[] coordinates) {
+            int maximum = coordinates.length == 0 ? 0 : Integer.MIN_VALUE;
+            for (int coordinate : coordinates) {
+                maximum = Math.max(maximum, coordinate);
+            }
+            return maximum;
         }
 
         private void moveStars() {
-            stars.forEach(Stars::move);
+            for (int star = 0; star < xCoordinates.length; star++) {
+                xCoordinates[star] += horizontalMovementSpeeds[star];
+                yCoordinates[star] += verticalMovementSpeeds[star];
+            }
         }
     }
 }
@@ -0,0 +1,22 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+
+public class PuzzleDayTenProvider implements PuzzleProvider {
+
+    @Override
+    public int getDay() {
+        return 10;
+    }
+
+    @Override
+    public Puzzle<?> create() {
+        return new PuzzleDayTen();
+    }
+
+    @Override
+    public Puzzle<?> create(String fileName) {
+        return new PuzzleDayTen(fileName);
+    }
+}
@@ -1,123 +1,481 @@
 package be.jidoka.adventofcode.puzzle.day;
 
+import be.jidoka.adventofcode.puzzle.IncrementalPuzzle;
+import be.jidoka.adventofcode.puzzle.IncrementalSolver;
+import be.jidoka.adventofcode.puzzle.InputScanner;
+import be.jidoka.adventofcode.puzzle.LongPuzzle;
 import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
+import be.jidoka.adventofcode.puzzle.SolveControl;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
-public class PuzzleDayThree extends PuzzleWithInputFile<Long> {
+public class PuzzleDayThree extends PuzzleWithInputFile<Long> implements LongPuzzle, IncrementalPuzzle<Long> {
 
-    @Override
-    public Long solvePartOne() {
-        return getOverlappingInches().count();
+    public PuzzleDayThree() {
+        this("puzzleDayThree.txt");
+    }
+
+    public PuzzleDayThree(String fileName) {
+        super(fileName);
     }
 
     @Override
-    public Long solvePartTwo() {
-        List<Inch> overlappingInches = getOverlappingInches().map(Map.Entry::getKey).collect(toList());
+    public long solvePartOneAsLong() {
+        return createCoverage().getOverlappingInches();
+    }
 
-        return readInput()
-                .filter(c -> !c.contains(overlappingInches))
-                .map(Claim::getId)
+    @Override
+    public long solvePartTwoAsLong() {
+        return findIsolatedClaims()
+                .stream()
+                .mapToLong(Long::longValue)
                 .findFirst()
-                .get();
+                .getAsLong();
+    }
+
+    public List<Long> findIsolatedClaims() {
+        return new IsolatedClaims(readInput().collect(toList())).find();
+    }
+
+    @Override
+    public IncrementalSolver<Long> solveIncrementally() {
+        return new IncrementalOverlap();
     }
 
     private Stream<Claim> readInput() {
-        return streamPuzzleInput("puzzleDayThree.txt").map(Claim::new);
+        return scanPuzzleInput(Claim::new, claims -> claims.collect(toUnmodifiableList())).stream();
     }
 
-    private Stream<Map.Entry<Inch, Long>> getOverlappingInches() {
-        return readInput()
-                .flatMap(Claim::getClaimedInches)
-                .collect(groupingBy(identity(), counting()))
-                .entrySet()
-                .stream()
-                .filter(x -> x.getValue() > 1L);
+    private Coverage createCoverage() {
+        return new Coverage(readInput().collect(toList()));
+    }
+
+    public static class Claim {
+
+        private final long id;
+        private final int leftMargin;
+        private final int topMargin;
+        private final int width;
+        private final int depth;
+
+        protected Claim(InputScanner claim) {
+            claim.expect('#');
+            this.id = claim.nextLong();
+            claim.expect(" @ ");
+            this.leftMargin = claim.nextInt();
+            claim.expect(',');
+            this.topMargin = claim.nextInt();
+            claim.expect(": ");
+            this.width = claim.nextInt();
+            claim.expect('x');
+            this.depth = claim.nextInt();
+            if (leftMargin < 0 || topMargin < 0 || width < 0 || depth < 0) {
+                throw new IllegalArgumentException("Cannot parse claim <" + id + "> outside of the fabric!");
+            }
+        }
+
+        public static Claim parse(String claim) {
+            return new Claim(InputScanner.of(claim));
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public boolean hasArea() {
+            return width > 0 && depth > 0;
+        }
     }
 
-    private static class Claim {
+    private static class Coverage {
+        private static final int STRIPE_DEPTH = 256;
 
-        private final Long id;
-        private final Integer leftMargin;
-        private final Integer topMargin;
-        private final Integer width;
-        private final Integer depth;
+        private final long overlappingInches;
 
-        protected Claim(String claim) {
-            Pattern claimPattern = Pattern.compile("#(\\d*)[ ]@[ ](\\d*),(\\d*):[ ](\\d*)x(\\d*)");
-            Matcher claimMatcher = claimPattern.matcher(claim);
-            if (!claimMatcher.matches()) {
-                throw new IllegalStateException("Expected a valid Claim!");
+        protected Coverage(List<Claim> claims) {
+            int width = 0;
+            int depth = 0;
+            for (Claim claim : claims) {
+                width = Math.max(width, claim.leftMargin + claim.width);
+                depth = Math.max(depth, claim.topMargin + claim.depth);
             }
 
-            this.id = Long.valueOf(claimMatcher.group(1));
-            this.leftMargin = Integer.valueOf(claimMatcher.group(2));
-            this.topMargin = Integer.valueOf(claimMatcher.group(3));
-            this.width = Integer.valueOf(claimMatcher.group(4));
-            this.depth = Integer.valueOf(claimMatcher.group(5));
+            int stripes = (depth + STRIPE_DEPTH - 1) / STRIPE_DEPTH;
+            List<List<Claim>> claimsByStripe = bucketByStripe(claims, stripes);
+            int ranges = Math.min(stripes, Runtime.getRuntime().availableProcessors());
+            int fabricWidth = width;
+            int fabricDepth = depth;
+            Runnable checkpoint = SolveControl.checkpointForCurrentSolve();
+            this.overlappingInches = IntStream.range(0, ranges)
+                    .parallel()
+                    .mapToLong(range -> countOverlappingInches(claimsByStripe, range * stripes / ranges, (range + 1) * stripes / ranges, fabricWidth, fabricDepth, checkpoint))
+                    .sum();
+        }
+
+        public long getOverlappingInches() {
+            return overlappingInches;
+        }
+
+        private static long countOverlappingInches(List<List<Claim>> claimsByStripe, int firstStripe, int endStripe, int width, int depth, Runnable checkpoint) {
+            Stripe buffer = new Stripe(width);
+            long overlappingInches = 0;
+            for (int stripe = firstStripe; stripe < endStripe; stripe++) {
+                checkpoint.run();
+                overlappingInches += buffer.countOverlappingInches(claimsByStripe.get(stripe), stripe * STRIPE_DEPTH, Math.min(depth, (stripe + 1) * STRIPE_DEPTH));
+            }
+            return overlappingInches;
         }
 
-        public Stream<Inch> getClaimedInches() {
-            List<Inch> claimedInches = new ArrayList<>();
-            for (int x = leftMargin + 1; x < leftMargin + width + 1; x++) {
-                for (int y = topMargin + 1; y < topMargin + depth + 1; y++) {
-                    claimedInches.add(new Inch(x, y));
+        private static List<List<Claim>> bucketByStripe(List<Claim> claims, int stripes) {
+            List<List<Claim>> claimsByStripe = new ArrayList<>(stripes);
+            for (int stripe = 0; stripe < stripes; stripe++) {
+                claimsByStripe.add(new ArrayList<>());
+            }
+            for (Claim claim : claims) {
+                if (!claim.hasArea()) {
+                    continue;
+                }
+                int lastStripe = (claim.topMargin + claim.depth - 1) / STRIPE_DEPTH;
+                for (int stripe = claim.topMargin / STRIPE_DEPTH; stripe <= lastStripe; stripe++) {
+                    claimsByStripe.get(stripe).add(claim);
                 }
             }
-            return claimedInches.stream();
+            return claimsByStripe;
         }
 
-        public Long getId() {
-            return id;
+        private static class Stripe {
+
+            private final int width;
+            private final int[] differences;
+            private final int[] claimsAbove;
+
+            private Stripe(int width) {
+                this.width = width;
+                this.differences = new int[Math.multiplyExact(width + 1, STRIPE_DEPTH + 1)];
+                this.claimsAbove = new int[width];
+            }
+
+            private long countOverlappingInches(List<Claim> claims, int top, int bottom) {
+                for (Claim claim : claims) {
+                    int claimTop = Math.max(top, claim.topMargin) - top;
+                    int claimBottom = Math.min(bottom, claim.topMargin + claim.depth) - top;
+                    int right = claim.leftMargin + claim.width;
+                    differences[claimTop * (width + 1) + claim.leftMargin]++;
+                    differences[claimTop * (width + 1) + right]--;
+                    differences[claimBottom * (width + 1) + claim.leftMargin]--;
+                    differences[claimBottom * (width + 1) + right]++;
+                }
+                return accumulate(bottom - top);
+            }
+
+            private long accumulate(int depth) {
+                long overlappingInches = 0;
+                Arrays.fill(claimsAbove, 0);
+                for (int y = 0; y < depth; y++) {
+                    int claimsInRow = 0;
+                    for (int x = 0; x < width; x++) {
+                        claimsInRow += differences[y * (width + 1) + x];
+                        differences[y * (width + 1) + x] = 0;
+                        claimsAbove[x] += claimsInRow;
+                        if (claimsAbove[x] > 1) {
+                            overlappingInches++;
+                        }
+                    }
+                    differences[y * (width + 1) + width] = 0;
+                }
+                Arrays.fill(differences, depth * (width + 1), (depth + 1) * (width + 1), 0);
+                return overlappingInches;
+            }
         }
+    }
+
+    private static class IsolatedClaims {
+
+        private final List<Claim> claims;
 
-        public boolean contains(List<Inch> otherInches) {
-            Set<Inch> inches = getClaimedInches().collect(toSet());
-            return otherInches.stream()
-                    .anyMatch(inches::contains);
+        protected IsolatedClaims(List<Claim> claims) {
+            this.claims = claims;
+        }
+
+        protected List<Long> find() {
+            List<Claim> claimsWithArea = claims.stream()
+                    .filter(Claim::hasArea)
+                    .collect(toList());
+            long[] disjointClaims = countDisjointClaims(claimsWithArea);
+
+            Set<Claim> overlappingClaims = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int i = 0; i < claimsWithArea.size(); i++) {
+                if (disjointClaims[i] != claimsWithArea.size() - 1) {
+                    overlappingClaims.add(claimsWithArea.get(i));
+                }
+            }
+
+            return claims.stream()
+                    .filter(claim -> !overlappingClaims.contains(claim))
+                    .map(Claim::getId)
+                    .collect(toList());
+        }
+
+        private static long[] countDisjointClaims(List<Claim> claims) {
+            int[] left = claims.stream().mapToInt(claim -> claim.leftMargin).toArray();
+            int[] right = claims.stream().mapToInt(claim -> claim.leftMargin + claim.width).toArray();
+            int[] top = claims.stream().mapToInt(claim -> claim.topMargin).toArray();
+            int[] bottom = claims.stream().mapToInt(claim -> claim.topMargin + claim.depth).toArray();
+            int[] negatedLeft = negate(left);
+            int[] negatedRight = negate(right);
+            int[] negatedTop = negate(top);
+            int[] negatedBottom = negate(bottom);
+            int[] anywhere = new int[claims.size()];
+
+            long[] disjointClaims = new long[claims.size()];
+            add(disjointClaims, countDominated(right, anywhere, left, anywhere), 1);
+            add(disjointClaims, countDominated(negatedLeft, anywhere, negatedRight, anywhere), 1);
+            add(disjointClaims, countDominated(bottom, anywhere, top, anywhere), 1);
+            add(disjointClaims, countDominated(negatedTop, anywhere, negatedBottom, anywhere), 1);
+            add(disjointClaims, countDominated(right, bottom, left, top), -1);
+            add(disjointClaims, countDominated(right, negatedTop, left, negatedBottom), -1);
+            add(disjointClaims, countDominated(negatedLeft, bottom, negatedRight, top), -1);
+            add(disjointClaims, countDominated(negatedLeft, negatedTop, negatedRight, negatedBottom), -1);
+            return disjointClaims;
+        }
+
+        private static int[] countDominated(int[] pointX, int[] pointY, int[] queryX, int[] queryY) {
+            int[] ys = Arrays.stream(pointY).sorted().distinct().toArray();
+            long[] points = sortedByValue(pointX);
+            long[] queries = sortedByValue(queryX);
+
+            int[] fenwickTree = new int[ys.length + 1];
+            int[] dominated = new int[queryX.length];
+            int point = 0;
+            for (long query : queries) {
+                int queryIndex = indexOf(query);
+                while (point < points.length && valueOf(points[point]) <= queryX[queryIndex]) {
+                    int rank = Arrays.binarySearch(ys, pointY[indexOf(points[point++])]) + 1;
+                    for (int i = rank; i < fenwickTree.length; i += i & -i) {
+                        fenwickTree[i]++;
+                    }
+                }
+
+                int rank = upperBound(ys, queryY[queryIndex]);
+                for (int i = rank; i > 0; i -= i & -i) {
+                    dominated[queryIndex] += fenwickTree[i];
+                }
+            }
+            return dominated;
+        }
+
+        private static long[] sortedByValue(int[] values) {
+            long[] sorted = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                sorted[i] = (long) values[i] << Integer.SIZE | i;
+            }
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        private static int valueOf(long valueWithIndex) {
+            return (int) (valueWithIndex >> Integer.SIZE);
+        }
+
+        private static int indexOf(long valueWithIndex) {
+            return (int) valueWithIndex;
+        }
+
+        private static int upperBound(int[] sorted, int value) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (sorted[middle] <= value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private static int[] negate(int[] values) {
+            return Arrays.stream(values).map(value -> -value).toArray();
+        }
+
+        private static void add(long[] totals, int[] counts, int sign) {
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += sign * counts[i];
+            }
         }
     }
 
-    private static class Inch {
+    public static class LiveFabric {
+        private static final int TILE_BITS = 6;
+        private static final int TILE_SIZE = 1 << TILE_BITS;
+
+        private final Map<Long, Tile> tiles = new HashMap<>();
+        private final Map<Long, Integer> slotsByClaimId = new LinkedHashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private Claim[] claims = new Claim[16];
+        private long[] sharedInches = new long[16];
+        private long overlapArea;
+
+        public void addClaim(Claim claim) {
+            if (slotsByClaimId.containsKey(claim.id)) {
+                throw new IllegalArgumentException("Cannot add claim <" + claim.id + "> twice!");
+            }
+
+            int slot = allocateSlot(claim);
+            forEachTileRow(claim, true, (tile, from, to) -> {
+                for (int inch = from; inch < to; inch++) {
+                    int claimsOnInch = tile.claims[inch]++;
+                    if (claimsOnInch == 0) {
+                        tile.claimedInches++;
+                    } else if (claimsOnInch == 1) {
+                        overlapArea++;
+                        sharedInches[tile.claimSlots[inch]]++;
+                    }
+                    if (claimsOnInch >= 1) {
+                        sharedInches[slot]++;
+                    }
+                    tile.claimSlots[inch] ^= slot;
+                }
+            });
+        }
+
+        public void removeClaim(long claimId) {
+            int slot = slotOf(claimId);
+            Claim claim = claims[slot];
+
+            forEachTileRow(claim, false, (tile, from, to) -> {
+                for (int inch = from; inch < to; inch++) {
+                    tile.claimSlots[inch] ^= slot;
+                    int claimsOnInch = --tile.claims[inch];
+                    if (claimsOnInch == 1) {
+                        overlapArea--;
+                        sharedInches[tile.claimSlots[inch]]--;
+                    } else if (claimsOnInch == 0 && --tile.claimedInches == 0) {
+                        tiles.remove(tile.key);
+                    }
+                }
+            });
+
+            slotsByClaimId.remove(claimId);
+            claims[slot] = null;
+            sharedInches[slot] = 0;
+            freeSlots.push(slot);
+        }
+
+        public long overlapArea() {
+            return overlapArea;
+        }
+
+        public boolean isIsolated(long claimId) {
+            return sharedInches[slotOf(claimId)] == 0;
+        }
+
+        public int tileCount() {
+            return tiles.size();
+        }
 
-        private final Integer x;
-        private final Integer y;
+        public Optional<Long> findFirstIsolatedClaim() {
+            return slotsByClaimId.entrySet()
+                    .stream()
+                    .filter(claim -> sharedInches[claim.getValue()] == 0)
+                    .map(Map.Entry::getKey)
+                    .findFirst();
+        }
 
-        protected Inch(Integer x, Integer y) {
-            this.x = x;
-            this.y = y;
+        private int allocateSlot(Claim claim) {
+            int slot = freeSlots.isEmpty() ? slotsByClaimId.size() : freeSlots.pop();
+            if (slot >= claims.length) {
+                claims = Arrays.copyOf(claims, claims.length * 2);
+                sharedInches = Arrays.copyOf(sharedInches, sharedInches.length * 2);
+            }
+            claims[slot] = claim;
+            slotsByClaimId.put(claim.id, slot);
+            return slot;
         }
 
+        private int slotOf(long claimId) {
+            Integer slot = slotsByClaimId.get(claimId);
+            if (slot == null) {
+                throw new IllegalArgumentException("Cannot find claim <" + claimId + "> on the fabric!");
+            }
+            return slot;
+        }
+
+        private void forEachTileRow(Claim claim, boolean createTiles, TileRowVisitor visitor) {
+            if (!claim.hasArea()) {
+                return;
+            }
+
+            int right = claim.leftMargin + claim.width;
+            int bottom = claim.topMargin + claim.depth;
+            for (int tileY = claim.topMargin >> TILE_BITS; tileY << TILE_BITS < bottom; tileY++) {
+                for (int tileX = claim.leftMargin >> TILE_BITS; tileX << TILE_BITS < right; tileX++) {
+                    long tileKey = (long) tileY << Integer.SIZE | tileX;
+                    Tile tile = createTiles ? tiles.computeIfAbsent(tileKey, Tile::new) : tiles.get(tileKey);
+
+                    int fromX = Math.max(claim.leftMargin, tileX << TILE_BITS) - (tileX << TILE_BITS);
+                    int toX = Math.min(right, (tileX + 1) << TILE_BITS) - (tileX << TILE_BITS);
+                    int fromY = Math.max(claim.topMargin, tileY << TILE_BITS) - (tileY << TILE_BITS);
+                    int toY = Math.min(bottom, (tileY + 1) << TILE_BITS) - (tileY << TILE_BITS);
+                    for (int y = fromY; y < toY; y++) {
+                        visitor.visit(tile, y * TILE_SIZE + fromX, y * TILE_SIZE + toX);
+                    }
+                }
+            }
+        }
+
+        private interface TileRowVisitor {
+
+            void visit(Tile tile, int from, int to);
+        }
+
+        private static class Tile {
+
+            private final long key;
+            private final int[] claims = new int[TILE_SIZE * TILE_SIZE];
+            private final int[] claimSlots = new int[TILE_SIZE * TILE_SIZE];
+            private int claimedInches;
+
+            private Tile(long key) {
+                this.key = key;
+            }
+        }
+    }
+
+    private static class IncrementalOverlap implements IncrementalSolver<Long> {
+
+        private final LiveFabric fabric = new LiveFabric();
+
         @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            Inch inch = (Inch) o;
-            return Objects.equals(x, inch.x) &&
-                    Objects.equals(y, inch.y);
+        public void accept(String line) {
+            fabric.addClaim(Claim.parse(line));
         }
 
         @Override
-        public int hashCode() {
-            return Objects.hash(x, y);
+        public Optional<Long> getPartOne() {
+            return Optional.of(fabric.overlapArea());
         }
 
         @Override
-        public String toString() {
-            return x + "," + y;
+        public Optional<Long> getPartTwo() {
+            return fabric.findFirstIsolatedClaim();
         }
     }
 }
@@ -0,0 +1,22 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+
+public class PuzzleDayThreeProvider implements PuzzleProvider {
+
+    @Override
+    public int getDay() {
+        return 3;
+    }
+
+    @Override
+    public Puzzle<?> create() {
+        return new PuzzleDayThree();
+    }
+
+    @Override
+    public Puzzle<?> create(String fileName) {
+        return new PuzzleDayThree(fileName);
+    }
+}
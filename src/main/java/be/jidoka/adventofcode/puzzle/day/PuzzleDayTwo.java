@@ -1,146 +1,309 @@
 package be.jidoka.adventofcode.puzzle.day;
 
+import be.jidoka.adventofcode.puzzle.IncrementalPuzzle;
+import be.jidoka.adventofcode.puzzle.IncrementalSolver;
+import be.jidoka.adventofcode.puzzle.InputScanner;
 import be.jidoka.adventofcode.puzzle.PuzzleWithInputFile;
+import be.jidoka.adventofcode.puzzle.SolveControl;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Stream;
+import java.util.Optional;
+import java.util.TreeMap;
 
-import static java.util.Comparator.comparing;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.counting;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
-public class PuzzleDayTwo extends PuzzleWithInputFile<String> {
+public class PuzzleDayTwo extends PuzzleWithInputFile<String> implements IncrementalPuzzle<String> {
+    private static final long CHUNK_SIZE = 8L * 1024 * 1024;
+
+    public PuzzleDayTwo() {
+        this("puzzleDayTwo.txt");
+    }
+
+    public PuzzleDayTwo(String fileName) {
+        super(fileName);
+    }
 
     @Override
     public String solvePartOne() {
-        return readInput()
-                .map(CheckSumPart::new)
-                .flatMap(CheckSumPart::getCheckSumValues)
-                .collect(groupingBy(identity(), counting()))
-                .values()
-                .stream()
-                .reduce(1L, (a, b) -> a * b)
-                .toString();
+        long letterMatches = mapPuzzleInput().split(CHUNK_SIZE)
+                .parallelStream()
+                .mapToLong(chunk -> chunk.sumRecords(new LetterHistogram()::countLetterMatches))
+                .sum();
+
+        long twoLetterMatches = letterMatches & LetterHistogram.TWO_LETTER_MATCH_MASK;
+        long threeLetterMatches = letterMatches >>> LetterHistogram.THREE_LETTER_MATCH_SHIFT;
+        return String.valueOf(twoLetterMatches * threeLetterMatches);
     }
 
     @Override
     public String solvePartTwo() {
-        List<CheckSumPart> checkSumParts = readInput().map(CheckSumPart::new).collect(toList());
-
-        Map<Integer, Set<String>> similarityScores = new HashMap<>();
-        for (int i = 0; i < checkSumParts.size(); i++) {
-            CheckSumPart checkSumPart = checkSumParts.get(i);
-            for (int j = 0; j < checkSumParts.size(); j++) {
-                if (i != j) {
-                    CheckSumPart otherChecksumPart = checkSumParts.get(j);
-
-                    Integer similarityScore = checkSumPart.getSimilarityScore(otherChecksumPart);
-                    if (!similarityScores.containsKey(similarityScore)) {
-                        similarityScores.put(similarityScore, new HashSet<>());
+        return findCommonLettersOfNearDuplicates(readInput())
+                .orElseThrow(() -> new IllegalStateException("Cannot find two box ids that differ in exactly one position!"));
+    }
+
+    @Override
+    public IncrementalSolver<String> solveIncrementally() {
+        return new IncrementalCheckSum();
+    }
+
+    public HammingIndex createHammingIndex() {
+        return new HammingIndex(readInput());
+    }
+
+    private Optional<String> findCommonLettersOfNearDuplicates(List<String> boxIds) {
+        return boxIds.stream()
+                .collect(groupingBy(String::length, TreeMap::new, toList()))
+                .values()
+                .stream()
+                .map(NearDuplicateIndex::new)
+                .map(NearDuplicateIndex::findCommonLetters)
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    private List<String> readInput() {
+        return parsePuzzleInput(lines -> lines.collect(toUnmodifiableList()));
+    }
+
+    private static class LetterHistogram {
+        private static final int LETTERS = 26;
+        private static final int THREE_LETTER_MATCH_SHIFT = Integer.SIZE;
+        private static final long TWO_LETTER_MATCH_MASK = (1L << THREE_LETTER_MATCH_SHIFT) - 1;
+
+        private final int[] letters = new int[LETTERS];
+        private Map<Integer, Integer> otherCharacters;
+
+        private long countLetterMatches(InputScanner checkSumPart) {
+            while (checkSumPart.hasRemainingOnLine()) {
+                byte character = checkSumPart.nextByte();
+                int letter = character - 'a';
+                if (letter >= 0 && letter < LETTERS) {
+                    letters[letter]++;
+                } else {
+                    if (otherCharacters == null) {
+                        otherCharacters = new HashMap<>();
                     }
-                    similarityScores.get(similarityScore).add(checkSumPart.getValue());
-                    similarityScores.get(similarityScore).add(otherChecksumPart.getValue());
+                    otherCharacters.merge(nextCharacter(character, checkSumPart), 1, Integer::sum);
                 }
             }
+
+            boolean hasTwoLetterMatch = false;
+            boolean hasThreeLetterMatch = false;
+            for (int letter = 0; letter < LETTERS; letter++) {
+                hasTwoLetterMatch |= letters[letter] == 2;
+                hasThreeLetterMatch |= letters[letter] == 3;
+                letters[letter] = 0;
+            }
+            if (otherCharacters != null && !otherCharacters.isEmpty()) {
+                hasTwoLetterMatch |= otherCharacters.containsValue(2);
+                hasThreeLetterMatch |= otherCharacters.containsValue(3);
+                otherCharacters.clear();
+            }
+            return (hasTwoLetterMatch ? 1L : 0L) | (hasThreeLetterMatch ? 1L << THREE_LETTER_MATCH_SHIFT : 0L);
         }
 
-        return similarityScores
-                .entrySet()
-                .stream()
-                .max(comparing(Map.Entry::getKey))
-                .map(Map.Entry::getValue)
-                .map(SimilarityScore::new)
-                .map(SimilarityScore::getSimilarity)
-                .get();
+        private static int nextCharacter(byte leadingByte, InputScanner checkSumPart) {
+            int character = leadingByte & 0xFF;
+            int continuationBytes = character >= 0xF0 ? 3 : character >= 0xE0 ? 2 : character >= 0xC0 ? 1 : 0;
+            for (int i = 0; i < continuationBytes && checkSumPart.hasRemainingOnLine(); i++) {
+                character = character << Byte.SIZE | checkSumPart.nextByte() & 0xFF;
+            }
+            return character;
+        }
     }
 
-    private Stream<String> readInput() {
-        return streamPuzzleInput("puzzleDayTwo.txt");
-    }
+    private static class IncrementalCheckSum implements IncrementalSolver<String> {
 
-    private static class CheckSumPart {
+        private final LetterHistogram letterHistogram = new LetterHistogram();
+        private long letterMatches;
 
-        private final String checkSumPart;
-        private final boolean hasTwoLetterMatch;
-        private final boolean hasThreeLetterMatch;
+        @Override
+        public void accept(String line) {
+            letterMatches += letterHistogram.countLetterMatches(InputScanner.of(line));
+        }
 
-        protected CheckSumPart(String checkSumPart) {
-            Set<Long> checkSumPartAnalysis = analyze(checkSumPart);
+        @Override
+        public Optional<String> getPartOne() {
+            long twoLetterMatches = letterMatches & LetterHistogram.TWO_LETTER_MATCH_MASK;
+            long threeLetterMatches = letterMatches >>> LetterHistogram.THREE_LETTER_MATCH_SHIFT;
+            return Optional.of(String.valueOf(twoLetterMatches * threeLetterMatches));
+        }
 
-            this.checkSumPart = checkSumPart;
-            this.hasTwoLetterMatch = checkSumPartAnalysis.contains(2L);
-            this.hasThreeLetterMatch = checkSumPartAnalysis.contains(3L);
+        @Override
+        public Optional<String> getPartTwo() {
+            return Optional.empty();
         }
+    }
+
+    public static class HammingIndex {
+
+        private final Node root;
+        private final int size;
 
-        protected String getValue() {
-            return checkSumPart;
+        private HammingIndex(List<String> boxIds) {
+            Node root = null;
+            int size = 0;
+            for (String boxId : boxIds) {
+                if (root == null) {
+                    root = new Node(boxId);
+                    size++;
+                } else if (root.add(boxId)) {
+                    size++;
+                }
+            }
+            this.root = root;
+            this.size = size;
         }
 
-        protected Stream<Integer> getCheckSumValues() {
-            if (hasTwoLetterMatch && hasThreeLetterMatch) {
-                return Stream.of(2, 3);
-            } else if (hasTwoLetterMatch) {
-                return Stream.of(2);
-            } else if (hasThreeLetterMatch) {
-                return Stream.of(3);
+        public int size() {
+            return size;
+        }
+
+        public List<String> findWithin(String id, int maximumDistance) {
+            if (maximumDistance < 0) {
+                throw new IllegalArgumentException("Cannot search within a negative distance <" + maximumDistance + ">!");
             }
-            return Stream.of();
+
+            List<String> matches = new ArrayList<>();
+            Deque<Node> candidates = new ArrayDeque<>();
+            if (root != null) {
+                candidates.push(root);
+            }
+            while (!candidates.isEmpty()) {
+                Node candidate = candidates.pop();
+                int distance = distance(id, candidate.id);
+                if (distance <= maximumDistance) {
+                    matches.add(candidate.id);
+                }
+
+                int lowest = Math.max(0, distance - maximumDistance);
+                int highest = Math.min(candidate.children.length - 1, distance + maximumDistance);
+                for (int childDistance = lowest; childDistance <= highest; childDistance++) {
+                    if (candidate.children[childDistance] != null) {
+                        candidates.push(candidate.children[childDistance]);
+                    }
+                }
+            }
+            return matches;
         }
 
-        protected Integer getSimilarityScore(CheckSumPart checkSumPart) {
-            return new SimilarityScore(this.getValue(), checkSumPart.getValue()).getScore();
+        private static int distance(String id, String otherId) {
+            int length = Math.min(id.length(), otherId.length());
+            int distance = Math.abs(id.length() - otherId.length());
+            for (int i = 0; i < length; i++) {
+                if (id.charAt(i) != otherId.charAt(i)) {
+                    distance++;
+                }
+            }
+            return distance;
         }
 
-        private Set<Long> analyze(String checkSumPart) {
-            return new HashSet<>(Arrays.stream(checkSumPart.split(""))
-                    .collect(groupingBy(identity(), counting()))
-                    .values());
+        private static class Node {
+
+            private final String id;
+            private Node[] children;
+
+            private Node(String id) {
+                this.id = id;
+                this.children = new Node[0];
+            }
+
+            private boolean add(String otherId) {
+                Node node = this;
+                while (true) {
+                    int distance = distance(node.id, otherId);
+                    if (distance == 0) {
+                        return false;
+                    }
+                    if (distance >= node.children.length) {
+                        node.children = Arrays.copyOf(node.children, distance + 1);
+                    }
+                    if (node.children[distance] == null) {
+                        node.children[distance] = new Node(otherId);
+                        return true;
+                    }
+                    node = node.children[distance];
+                }
+            }
         }
     }
 
-    private static class SimilarityScore {
+    private static class NearDuplicateIndex {
+        private static final long BASE = 131;
+        private static final int EMPTY = -1;
+
+        private final List<String> ids;
+        private final int length;
+        private final long[] hashes;
+        private final long[] keys;
+        private final int[] entries;
+        private final int mask;
 
-        private final String value;
-        private final String otherValue;
+        protected NearDuplicateIndex(List<String> ids) {
+            this.ids = ids;
+            this.length = ids.get(0).length();
+            this.hashes = ids.stream().mapToLong(NearDuplicateIndex::hash).toArray();
 
-        protected SimilarityScore(String value, String otherValue) {
-            this.value = value;
-            this.otherValue = otherValue;
+            int capacity = Integer.highestOneBit(Math.max(2, ids.size()) * 2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.entries = new int[capacity];
+            this.mask = capacity - 1;
         }
 
-        protected SimilarityScore(Set<String> values) {
-            if (values.size() != 2) {
-                throw new IllegalStateException("Excepted only two values for a SimilarityScore!");
-            }
+        protected Optional<String> findCommonLetters() {
+            long weight = 1;
+            for (int position = length - 1; position >= 0; position--) {
+                SolveControl.checkpoint(length - 1 - position, length);
 
-            Iterator<String> valuesIterator = values.iterator();
-            this.value = valuesIterator.next();
-            this.otherValue = valuesIterator.next();
+                Optional<String> commonLetters = findCommonLettersDifferingAt(position, weight);
+                if (commonLetters.isPresent()) {
+                    return commonLetters;
+                }
+                weight *= BASE;
+            }
+            return Optional.empty();
         }
 
-        protected Integer getScore() {
-            return getSimilarity().length();
-        }
+        private Optional<String> findCommonLettersDifferingAt(int position, long weight) {
+            Arrays.fill(entries, EMPTY);
 
-        protected String getSimilarity() {
-            String[] parts = value.split("");
-            String[] otherParts = otherValue.split("");
+            for (int i = 0; i < ids.size(); i++) {
+                String id = ids.get(i);
+                long key = hashes[i] - id.charAt(position) * weight;
 
-            StringBuilder reason = new StringBuilder();
-            for (int i = 0; i < parts.length; i++) {
-                if (parts[i].equals(otherParts[i])) {
-                    reason.append(parts[i]);
+                int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+                while (entries[slot] != EMPTY) {
+                    String otherId = ids.get(entries[slot]);
+                    if (keys[slot] == key && id.charAt(position) != otherId.charAt(position) && equalsExcept(id, otherId, position)) {
+                        return Optional.of(id.substring(0, position) + id.substring(position + 1));
+                    }
+                    slot = (slot + 1) & mask;
                 }
+                keys[slot] = key;
+                entries[slot] = i;
+            }
+            return Optional.empty();
+        }
+
+        private static boolean equalsExcept(String id, String otherId, int position) {
+            return id.regionMatches(0, otherId, 0, position)
+                    && id.regionMatches(position + 1, otherId, position + 1, id.length() - position - 1);
+        }
+
+        private static long hash(String id) {
+            long hash = 0;
+            for (int i = 0; i < id.length(); i++) {
+                hash = hash * BASE + id.charAt(i);
             }
-            return reason.toString();
+            return hash;
         }
     }
 }
@@ -0,0 +1,22 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+import be.jidoka.adventofcode.puzzle.PuzzleProvider;
+
+public class PuzzleDayTwoProvider implements PuzzleProvider {
+
+    @Override
+    public int getDay() {
+        return 2;
+    }
+
+    @Override
+    public Puzzle<?> create() {
+        return new PuzzleDayTwo();
+    }
+
+    @Override
+    public Puzzle<?> create(String fileName) {
+        return new PuzzleDayTwo(fileName);
+    }
+}
@@ -0,0 +1,34 @@
+package be.jidoka.adventofcode.puzzle.metrics;
+
+import be.jidoka.adventofcode.puzzle.Puzzle;
+
+public class InstrumentedPuzzle<T> implements Puzzle<T> {
+
+    private final int day;
+    private final Puzzle<T> puzzle;
+
+    public InstrumentedPuzzle(int day, Puzzle<T> puzzle) {
+        this.day = day;
+        this.puzzle = puzzle;
+    }
+
+    @Override
+    public T solvePartOne() {
+        PuzzleMetrics.SolveRecording recording = PuzzleMetrics.startSolve(day, puzzle.getClass(), "one");
+        try {
+            return puzzle.solvePartOne();
+        } finally {
+            recording.finish();
+        }
+    }
+
+    @Override
+    public T solvePartTwo() {
+        PuzzleMetrics.SolveRecording recording = PuzzleMetrics.startSolve(day, puzzle.getClass(), "two");
+        try {
+            return puzzle.solvePartTwo();
+        } finally {
+            recording.finish();
+        }
+    }
+}
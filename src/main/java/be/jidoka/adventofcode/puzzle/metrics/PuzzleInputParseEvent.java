@@ -0,0 +1,29 @@
+package be.jidoka.adventofcode.puzzle.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("be.jidoka.adventofcode.PuzzleInputParse")
+@Label("Puzzle Input Parse")
+@Category("Advent of Code")
+class PuzzleInputParseEvent extends Event {
+
+    @Label("Puzzle")
+    String puzzle;
+
+    @Label("Input")
+    String input;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytesRead;
+
+    @Label("Lines Parsed")
+    long linesParsed;
+
+    @Label("Objects Produced")
+    long objectsProduced;
+}
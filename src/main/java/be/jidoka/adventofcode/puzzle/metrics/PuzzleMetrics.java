@@ -0,0 +1,178 @@
+package be.jidoka.adventofcode.puzzle.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+public class PuzzleMetrics {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final Map<Series, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+
+    private PuzzleMetrics() {
+    }
+
+    public static ParseRecording startParse(Class<?> puzzle, String input) {
+        return new ParseRecording(puzzle.getSimpleName(), input);
+    }
+
+    public static SolveRecording startSolve(int day, Class<?> puzzle, String part) {
+        return new SolveRecording(day, puzzle.getSimpleName(), part);
+    }
+
+    public static void recordStoredAnswer(Class<?> puzzle, String part, boolean found) {
+        String labels = "{puzzle=\"" + puzzle.getSimpleName() + "\",part=\"" + part + "\"}";
+        increment(found ? "adventofcode_answer_store_hits_total" : "adventofcode_answer_store_misses_total", labels, 1);
+    }
+
+    public static void writePrometheus(Path file) {
+        try {
+            Files.writeString(file, toPrometheus());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write metrics to <" + file + ">!", e);
+        }
+    }
+
+    public static String toPrometheus() {
+        StringBuilder prometheus = new StringBuilder();
+        String previousName = null;
+        for (Map.Entry<Series, LongAdder> counter : sortedCounters()) {
+            Series series = counter.getKey();
+            if (!series.name.equals(previousName)) {
+                prometheus.append("# TYPE ").append(series.name).append(" counter\n");
+                previousName = series.name;
+            }
+            prometheus.append(series.name).append(series.labels).append(' ').append(series.format(counter.getValue().sum())).append('\n');
+        }
+        return prometheus.toString();
+    }
+
+    private static Collection<Map.Entry<Series, LongAdder>> sortedCounters() {
+        return COUNTERS.entrySet()
+                .stream()
+                .sorted(comparing((Map.Entry<Series, LongAdder> counter) -> counter.getKey().name).thenComparing(counter -> counter.getKey().labels))
+                .collect(toList());
+    }
+
+    private static void increment(String name, String labels, long amount) {
+        COUNTERS.computeIfAbsent(new Series(name, labels, false), series -> new LongAdder()).add(amount);
+    }
+
+    private static void incrementSeconds(String name, String labels, long nanos) {
+        COUNTERS.computeIfAbsent(new Series(name, labels, true), series -> new LongAdder()).add(nanos);
+    }
+
+    public static class ParseRecording {
+
+        private final String puzzle;
+        private final String labels;
+        private final PuzzleInputParseEvent event;
+        private final long startedAt;
+        private final LongAdder linesParsed;
+
+        private ParseRecording(String puzzle, String input) {
+            this.puzzle = puzzle;
+            this.labels = "{puzzle=\"" + puzzle + "\"}";
+            this.event = new PuzzleInputParseEvent();
+            this.event.input = input;
+            this.event.begin();
+            this.startedAt = System.nanoTime();
+            this.linesParsed = new LongAdder();
+        }
+
+        public void lineParsed() {
+            linesParsed.increment();
+        }
+
+        public void finish(long bytesRead, Object parsed) {
+            long objectsProduced = countObjects(parsed);
+
+            increment("adventofcode_input_bytes_read_total", labels, bytesRead);
+            increment("adventofcode_input_lines_parsed_total", labels, linesParsed.sum());
+            increment("adventofcode_input_objects_produced_total", labels, objectsProduced);
+            incrementSeconds("adventofcode_input_parse_seconds_total", labels, System.nanoTime() - startedAt);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.puzzle = puzzle;
+                event.bytesRead = bytesRead;
+                event.linesParsed = linesParsed.sum();
+                event.objectsProduced = objectsProduced;
+                event.commit();
+            }
+        }
+
+        private long countObjects(Object parsed) {
+            if (parsed instanceof Collection) {
+                return ((Collection<?>) parsed).size();
+            } else if (parsed != null && parsed.getClass().isArray()) {
+                return Array.getLength(parsed);
+            }
+            return parsed == null ? 0 : 1;
+        }
+    }
+
+    public static class SolveRecording {
+
+        private final String labels;
+        private final PuzzleSolveEvent event;
+        private final long startedAt;
+
+        private SolveRecording(int day, String puzzle, String part) {
+            this.labels = "{day=\"" + day + "\",puzzle=\"" + puzzle + "\",part=\"" + part + "\"}";
+            this.event = new PuzzleSolveEvent();
+            this.event.day = day;
+            this.event.puzzle = puzzle;
+            this.event.part = part;
+            this.event.begin();
+            this.startedAt = System.nanoTime();
+        }
+
+        public void finish() {
+            increment("adventofcode_solves_total", labels, 1);
+            incrementSeconds("adventofcode_solve_seconds_total", labels, System.nanoTime() - startedAt);
+
+            event.commit();
+        }
+    }
+
+    private static class Series {
+
+        private final String name;
+        private final String labels;
+        private final boolean nanos;
+
+        private Series(String name, String labels, boolean nanos) {
+            this.name = name;
+            this.labels = labels;
+            this.nanos = nanos;
+        }
+
+        private String format(long value) {
+            return nanos ? String.valueOf(value / NANOS_PER_SECOND) : String.valueOf(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Series series = (Series) o;
+            return Objects.equals(name, series.name) &&
+                    Objects.equals(labels, series.labels);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, labels);
+        }
+    }
+}
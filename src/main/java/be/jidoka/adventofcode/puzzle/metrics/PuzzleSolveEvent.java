@@ -0,0 +1,21 @@
+package be.jidoka.adventofcode.puzzle.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("be.jidoka.adventofcode.PuzzleSolve")
+@Label("Puzzle Solve")
+@Category("Advent of Code")
+class PuzzleSolveEvent extends Event {
+
+    @Label("Day")
+    int day;
+
+    @Label("Puzzle")
+    String puzzle;
+
+    @Label("Part")
+    String part;
+}
@@ -0,0 +1,28 @@
+package be.jidoka.adventofcode.puzzle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InputScannerTest {
+
+    @Test
+    void readsNumbersUpToTheLongRange() {
+        assertEquals(Long.MAX_VALUE, InputScanner.of("9223372036854775807").nextLong());
+        assertEquals(-Long.MAX_VALUE, InputScanner.of("-9223372036854775807").nextLong());
+        assertEquals(Integer.MIN_VALUE, InputScanner.of("-2147483648").nextInt());
+    }
+
+    @Test
+    void rejectsNumbersBeyondTheLongRange() {
+        assertThrows(IllegalStateException.class, () -> InputScanner.of("9223372036854775808").nextLong());
+        assertThrows(IllegalStateException.class, () -> InputScanner.of("-92233720368547758070").nextLong());
+    }
+
+    @Test
+    void rejectsIntegersThatWouldWrapAroundIntoRange() {
+        // 2^64 + 1 wraps around to 1 when the digits are accumulated without overflow checks
+        assertThrows(IllegalStateException.class, () -> InputScanner.of("18446744073709551617").nextInt());
+    }
+}
@@ -0,0 +1,67 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PuzzleDayOneTest {
+
+    private static final int MAX_SIMULATED_CHANGES = 10_000;
+
+    @TempDir
+    Path inputs;
+
+    @Test
+    void firstRepeatedFrequencyMatchesSimulation() throws IOException {
+        Random random = new Random(17);
+        for (int run = 0; run < 500; run++) {
+            int[] frequencies = IntStream.range(0, 1 + random.nextInt(12))
+                    .map(i -> random.nextInt(41) - 20)
+                    .toArray();
+            PuzzleDayOne puzzle = new PuzzleDayOne(write(run, frequencies).toString());
+
+            Integer expected = simulateFirstRepeat(frequencies);
+            if (expected == null) {
+                assertThrows(IllegalStateException.class, puzzle::solvePartTwoAsInt);
+            } else {
+                assertEquals(expected.intValue(), puzzle.solvePartTwoAsInt(), () -> "changes " + IntStream.of(frequencies).boxed().collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    void frequencyThatNeverRepeatsFailsFast() throws IOException {
+        PuzzleDayOne puzzle = new PuzzleDayOne(write(0, new int[]{1, 2, 3}).toString());
+
+        assertThrows(IllegalStateException.class, puzzle::solvePartTwoAsInt);
+    }
+
+    private Path write(int run, int[] frequencies) throws IOException {
+        return Files.write(inputs.resolve("frequencies-" + run + ".txt"), IntStream.of(frequencies)
+                .mapToObj(frequency -> (frequency < 0 ? "" : "+") + frequency)
+                .collect(Collectors.toList()));
+    }
+
+    private static Integer simulateFirstRepeat(int[] frequencies) {
+        Set<Integer> seenFrequencies = new HashSet<>();
+        int calibratedFrequency = 0;
+        for (int i = 0; i < MAX_SIMULATED_CHANGES; i++) {
+            if (!seenFrequencies.add(calibratedFrequency)) {
+                return calibratedFrequency;
+            }
+            calibratedFrequency += frequencies[i % frequencies.length];
+        }
+        return null;
+    }
+}
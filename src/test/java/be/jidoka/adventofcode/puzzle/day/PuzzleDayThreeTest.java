@@ -0,0 +1,144 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PuzzleDayThreeTest {
+
+    private static final int FABRIC_SIZE = 400;
+
+    @TempDir
+    Path inputs;
+
+    @Test
+    void isolatedClaimsMatchBruteForce() throws IOException {
+        Random random = new Random(5);
+        for (int run = 0; run < 500; run++) {
+            int fabricSize = 5 + random.nextInt(30);
+            int[][] claims = new int[1 + random.nextInt(30)][];
+            StringBuilder input = new StringBuilder();
+            for (int i = 0; i < claims.length; i++) {
+                claims[i] = new int[]{random.nextInt(fabricSize), random.nextInt(fabricSize), random.nextInt(6), random.nextInt(6)};
+                input.append(format(i + 1, claims[i])).append('\n');
+            }
+            Path file = Files.writeString(inputs.resolve("claims-" + run + ".txt"), input);
+
+            List<Long> expected = new ArrayList<>();
+            for (int i = 0; i < claims.length; i++) {
+                if (overlapsNone(claims, i)) {
+                    expected.add(i + 1L);
+                }
+            }
+            assertEquals(expected, new PuzzleDayThree(file.toString()).findIsolatedClaims(), input::toString);
+        }
+    }
+
+    @Test
+    void claimOutsideOfTheFabricIsRejected() throws IOException {
+        Path file = Files.writeString(inputs.resolve("negative.txt"), "#1 @ 1,3: 4x4\n#2 @ 3,1: -4x4\n");
+
+        assertThrows(IllegalArgumentException.class, () -> new PuzzleDayThree(file.toString()).findIsolatedClaims());
+        assertThrows(IllegalArgumentException.class, () -> new PuzzleDayThree(file.toString()).solvePartOneAsLong());
+        assertThrows(IllegalArgumentException.class, () -> PuzzleDayThree.Claim.parse("#3 @ -1,1: 2x2"));
+    }
+
+    @Test
+    void liveFabricMatchesBruteForceWhileClaimsComeAndGo() {
+        Random random = new Random(9);
+        for (int run = 0; run < 100; run++) {
+            PuzzleDayThree.LiveFabric fabric = new PuzzleDayThree.LiveFabric();
+            Map<Long, int[]> live = new LinkedHashMap<>();
+            long nextId = 1;
+            for (int step = 0; step < 60; step++) {
+                if (!live.isEmpty() && random.nextInt(3) == 0) {
+                    long id = new ArrayList<>(live.keySet()).get(random.nextInt(live.size()));
+                    live.remove(id);
+                    fabric.removeClaim(id);
+                } else {
+                    int[] claim = {random.nextInt(150), random.nextInt(150), random.nextInt(80), random.nextInt(80)};
+                    long id = nextId++;
+                    live.put(id, claim);
+                    fabric.addClaim(parse(id, claim));
+                }
+                assertMatchesBruteForce(fabric, live);
+            }
+
+            for (long id : new ArrayList<>(live.keySet())) {
+                fabric.removeClaim(id);
+            }
+            assertEquals(0, fabric.overlapArea());
+            assertEquals(0, fabric.tileCount());
+        }
+    }
+
+    private static void assertMatchesBruteForce(PuzzleDayThree.LiveFabric fabric, Map<Long, int[]> live) {
+        int[][] fabricInches = new int[FABRIC_SIZE][FABRIC_SIZE];
+        for (int[] claim : live.values()) {
+            for (int x = claim[0]; x < claim[0] + claim[2]; x++) {
+                for (int y = claim[1]; y < claim[1] + claim[3]; y++) {
+                    fabricInches[x][y]++;
+                }
+            }
+        }
+
+        long overlapArea = 0;
+        for (int[] row : fabricInches) {
+            for (int claims : row) {
+                if (claims > 1) {
+                    overlapArea++;
+                }
+            }
+        }
+        assertEquals(overlapArea, fabric.overlapArea());
+
+        for (Map.Entry<Long, int[]> entry : live.entrySet()) {
+            assertEquals(isIsolated(fabricInches, entry.getValue()), fabric.isIsolated(entry.getKey()), "claim " + entry.getKey());
+        }
+    }
+
+    private static boolean isIsolated(int[][] fabricInches, int[] claim) {
+        for (int x = claim[0]; x < claim[0] + claim[2]; x++) {
+            for (int y = claim[1]; y < claim[1] + claim[3]; y++) {
+                if (fabricInches[x][y] > 1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static PuzzleDayThree.Claim parse(long id, int[] claim) {
+        return PuzzleDayThree.Claim.parse(format(id, claim));
+    }
+
+    private static String format(long id, int[] claim) {
+        return "#" + id + " @ " + claim[0] + "," + claim[1] + ": " + claim[2] + "x" + claim[3];
+    }
+
+    private static boolean overlapsNone(int[][] claims, int claim) {
+        for (int other = 0; other < claims.length; other++) {
+            if (other != claim && overlap(claims[claim], claims[other])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean overlap(int[] claim, int[] other) {
+        return claim[2] > 0 && claim[3] > 0 && other[2] > 0 && other[3] > 0
+                && claim[0] < other[0] + other[2] && other[0] < claim[0] + claim[2]
+                && claim[1] < other[1] + other[3] && other[1] < claim[1] + claim[3];
+    }
+}
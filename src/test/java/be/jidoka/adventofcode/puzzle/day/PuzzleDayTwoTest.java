@@ -0,0 +1,160 @@
+package be.jidoka.adventofcode.puzzle.day;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PuzzleDayTwoTest {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzAB019-éèü";
+
+    @TempDir
+    Path inputs;
+
+    @Test
+    void checkSumCountsEveryCharacterOfABoxId() throws IOException {
+        Random random = new Random(21);
+        for (int run = 0; run < 200; run++) {
+            List<String> boxIds = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(40); i++) {
+                StringBuilder boxId = new StringBuilder();
+                for (int j = 0; j < 1 + random.nextInt(12); j++) {
+                    boxId.append(ALPHABET.charAt(random.nextInt(random.nextBoolean() ? 26 : ALPHABET.length())));
+                }
+                boxIds.add(boxId.toString());
+            }
+            Path file = Files.write(inputs.resolve("box-ids-" + run + ".txt"), boxIds);
+
+            assertEquals(countCheckSum(boxIds), new PuzzleDayTwo(file.toString()).solvePartOne(), boxIds::toString);
+        }
+    }
+
+    @Test
+    void hammingIndexFindsTheSameIdsAsAScan() throws IOException {
+        Random random = new Random(20);
+        for (int run = 0; run < 200; run++) {
+            List<String> boxIds = randomBoxIds(random, 1 + random.nextInt(60), 3, 6);
+            Path file = Files.write(inputs.resolve("hamming-" + run + ".txt"), boxIds);
+            PuzzleDayTwo.HammingIndex index = new PuzzleDayTwo(file.toString()).createHammingIndex();
+
+            assertEquals(new TreeSet<>(boxIds).size(), index.size());
+            for (int query = 0; query < 20; query++) {
+                String id = random.nextBoolean() ? boxIds.get(random.nextInt(boxIds.size())) : randomBoxIds(random, 1, 3, 6).get(0);
+                int maximumDistance = random.nextInt(4);
+
+                TreeSet<String> expected = new TreeSet<>();
+                for (String boxId : boxIds) {
+                    if (distance(id, boxId) <= maximumDistance) {
+                        expected.add(boxId);
+                    }
+                }
+                List<String> matches = index.findWithin(id, maximumDistance);
+                assertEquals(expected.size(), matches.size(), () -> id + " within " + maximumDistance + " of " + boxIds);
+                assertEquals(expected, new TreeSet<>(matches), () -> id + " within " + maximumDistance + " of " + boxIds);
+            }
+        }
+    }
+
+    @Test
+    void commonLettersComeFromIdsThatDifferInExactlyOnePosition() throws IOException {
+        Random random = new Random(19);
+        for (int run = 0; run < 500; run++) {
+            List<String> boxIds = randomBoxIds(random, 2 + random.nextInt(14), 1, 5);
+            Path file = Files.write(inputs.resolve("near-duplicates-" + run + ".txt"), boxIds);
+            PuzzleDayTwo puzzle = new PuzzleDayTwo(file.toString());
+
+            Set<String> expected = new TreeSet<>();
+            for (int i = 0; i < boxIds.size(); i++) {
+                for (int j = i + 1; j < boxIds.size(); j++) {
+                    String id = boxIds.get(i);
+                    String otherId = boxIds.get(j);
+                    if (id.length() == otherId.length() && distance(id, otherId) == 1) {
+                        expected.add(commonLetters(id, otherId));
+                    }
+                }
+            }
+
+            if (expected.isEmpty()) {
+                assertThrows(IllegalStateException.class, puzzle::solvePartTwo, boxIds::toString);
+            } else {
+                String commonLetters = puzzle.solvePartTwo();
+                assertTrue(expected.contains(commonLetters), () -> commonLetters + " of " + boxIds);
+            }
+        }
+    }
+
+    @Test
+    void exactDuplicatesAreNoNearDuplicates() throws IOException {
+        Path file = Files.write(inputs.resolve("duplicates.txt"), List.of("abcde", "fghij", "abcde"));
+
+        assertThrows(IllegalStateException.class, () -> new PuzzleDayTwo(file.toString()).solvePartTwo());
+    }
+
+    @Test
+    void idsWithCollidingHashesAreNoNearDuplicates() throws IOException {
+        // 'b' * 131 + 'a' == 'a' * 131 + ('a' + 131), so without the last letter both ids hash the same
+        Path file = Files.write(inputs.resolve("collision.txt"), List.of("bax", "a" + (char) ('a' + 131) + "y"));
+
+        assertThrows(IllegalStateException.class, () -> new PuzzleDayTwo(file.toString()).solvePartTwo());
+    }
+
+    private static String commonLetters(String id, String otherId) {
+        StringBuilder commonLetters = new StringBuilder();
+        for (int i = 0; i < id.length(); i++) {
+            if (id.charAt(i) == otherId.charAt(i)) {
+                commonLetters.append(id.charAt(i));
+            }
+        }
+        return commonLetters.toString();
+    }
+
+    private static List<String> randomBoxIds(Random random, int count, int minimumLength, int maximumLength) {
+        List<String> boxIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder boxId = new StringBuilder();
+            int length = minimumLength + random.nextInt(maximumLength - minimumLength + 1);
+            for (int j = 0; j < length; j++) {
+                boxId.append((char) ('a' + random.nextInt(3)));
+            }
+            boxIds.add(boxId.toString());
+        }
+        return boxIds;
+    }
+
+    private static int distance(String id, String otherId) {
+        int distance = 0;
+        for (int i = 0; i < Math.max(id.length(), otherId.length()); i++) {
+            if (i >= id.length() || i >= otherId.length() || id.charAt(i) != otherId.charAt(i)) {
+                distance++;
+            }
+        }
+        return distance;
+    }
+
+    private static String countCheckSum(List<String> boxIds) {
+        long twoLetterMatches = 0;
+        long threeLetterMatches = 0;
+        for (String boxId : boxIds) {
+            Collection<Long> counts = boxId.chars().boxed().collect(groupingBy(identity(), counting())).values();
+            twoLetterMatches += counts.contains(2L) ? 1 : 0;
+            threeLetterMatches += counts.contains(3L) ? 1 : 0;
+        }
+        return String.valueOf(twoLetterMatches * threeLetterMatches);
+    }
+}